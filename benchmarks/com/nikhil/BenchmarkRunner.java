@@ -0,0 +1,24 @@
+package com.nikhil;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks of the placement pipeline with the GC profiler attached, so that every benchmark reports its
+ * allocation rate (gc.alloc.rate.norm is bytes per operation) next to its throughput in ops/s. Any JMH command line
+ * option can be given, for example a benchmark name pattern or -p size=20000 -p words=/path/to/dictionary.csv.
+ * The working directory is expected to be the project root, where random.txt is.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,47 @@
+package com.nikhil;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Placement of a whole word list, end to end. Sizes above a couple of thousand words take long per operation, so they
+ * are left out by default and can be asked for with -p size=20000.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class GridBenchmark {
+
+    @Param({"20", "200", "2000"})
+    int size;
+
+    /** {@link WordListFixture#SYNTHETIC} or the path of a real dictionary to sample words from */
+    @Param({WordListFixture.SYNTHETIC, "random.txt"})
+    String words;
+
+    private Dictionary dictionary;
+    private Grid grid;
+
+    @Setup(Level.Trial)
+    public void loadDictionary() throws IOException {
+        LinkedList<Word> wordList = WordListFixture.wordList(words, size, 42);
+        dictionary = new Dictionary(wordList);
+    }
+
+    @Setup(Level.Invocation)
+    public void freshGrid() {
+        grid = new Grid(dictionary.newWordList());
+    }
+
+    @Benchmark
+    public Grid placeWordsInGrid() {
+        grid.placeWords();
+        return grid;
+    }
+}
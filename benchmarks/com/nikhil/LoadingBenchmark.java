@@ -0,0 +1,52 @@
+package com.nikhil;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.concurrent.TimeUnit;
+
+/** Reading word lists and preparing them for placement */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoadingBenchmark {
+
+    @Param({"20", "200", "2000", "20000"})
+    int size;
+
+    /** {@link WordListFixture#SYNTHETIC} or the path of a real dictionary to sample words from */
+    @Param({WordListFixture.SYNTHETIC, "random.txt"})
+    String words;
+
+    private File csv;
+    private LinkedList<Word> wordList;
+
+    @Setup(Level.Trial)
+    public void writeWordList() throws IOException {
+        csv = WordListFixture.writeCsv(WordListFixture.wordList(words, size, 42));
+    }
+
+    @Setup(Level.Invocation)
+    public void freshWordList() throws IOException {
+        wordList = WordListFixture.wordList(words, size, 42);
+        LetterIndex.attachTo(wordList);
+    }
+
+    @Benchmark
+    public Grid generateCrosswordFromCSV() throws IOException {
+        return CrosswordFactory.generateCrosswordFromCSV(csv.getPath());
+    }
+
+    @Benchmark
+    public LinkedList<Word> computeIntersectionOptions() {
+        for (Word word : wordList) {
+            word.computeIntersectionOptions(wordList);
+        }
+        return wordList;
+    }
+}
@@ -0,0 +1,92 @@
+package com.nikhil;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/** The inner loops of the placement algorithm, measured against grids of growing size */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlacementBenchmark {
+
+    @Param({"20", "200", "2000", "20000"})
+    int size;
+
+    /** {@link WordListFixture#SYNTHETIC} or the path of a real dictionary to sample words from */
+    @Param({WordListFixture.SYNTHETIC, "random.txt"})
+    String words;
+
+    /** Grid with every word placed on rows, see {@link WordListFixture#placeOnRows(List, int)} */
+    private Grid rows;
+    private Word unplaced;
+    private int[] probeRows;
+    private int[] probeCols;
+    private boolean[] probeVertical;
+
+    /** Corners of a grid placed by the placement algorithm itself */
+    private List<Corner> corners;
+
+    @Setup(Level.Trial)
+    public void placeWords() throws IOException {
+        LinkedList<Word> wordList = WordListFixture.wordList(words, size, 42);
+        unplaced = new Word(wordList.removeLast());
+        wordList.add(unplaced);
+        WordListFixture.placeOnRows(wordList.subList(0, size - 1), (int) Math.sqrt(size) + 1);
+        rows = new Grid(wordList);
+
+        // placement checks spread over the whole grid
+        Random random = new Random(7);
+        int side = 2 * ((int) Math.sqrt(size) + 1) * 14;
+        probeRows = new int[1024];
+        probeCols = new int[1024];
+        probeVertical = new boolean[1024];
+        for (int i = 0; i < probeRows.length; i++) {
+            probeRows[i] = random.nextInt(side) - 2;
+            probeCols[i] = random.nextInt(side) - 2;
+            probeVertical[i] = random.nextBoolean();
+        }
+
+        // corners formed by the words of a generated grid, at most a couple of thousand words to keep setup short
+        LinkedList<Word> generated = WordListFixture.wordList(words, Math.min(size, 2000), 43);
+        Grid grid = new Grid(generated);
+        grid.placeWords();
+        corners = new ArrayList<>();
+        for (Word word : generated) {
+            corners.addAll(word.findAllCorners(generated));
+        }
+    }
+
+    @Benchmark
+    public void isPlacementOfWordAllowed(Blackhole blackhole) {
+        for (int i = 0; i < probeRows.length; i++) {
+            blackhole.consume(rows.isPlacementOfWordAllowed(unplaced, probeRows[i], probeCols[i], probeVertical[i]));
+        }
+    }
+
+    @Benchmark
+    public void findPossibleIntersections(Blackhole blackhole) {
+        Corner.DoubleIntersectionFound rejectAll = new Corner.DoubleIntersectionFound() {
+            @Override
+            public boolean onDoubleIntersection(Corner corner, IntersectionOption fromSourceWord, IntersectionOption fromCrossingWord) {
+                return false;
+            }
+        };
+
+        // scan the whole area of every corner, rejecting double intersections so that nothing gets placed
+        for (Corner corner : corners) {
+            while (corner.moveToNextIfPossible()) {
+                blackhole.consume(corner.findPossibleIntersections(rejectAll));
+            }
+        }
+    }
+}
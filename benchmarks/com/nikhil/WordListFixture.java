@@ -0,0 +1,105 @@
+package com.nikhil;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Word lists of a given size for the benchmarks. Words are either synthetic, with English letter frequencies and
+ * lengths spread evenly between 3 and 12 letters, or drawn (with repetition) from a real dictionary so that the
+ * letter and length distribution of that dictionary is kept.
+ */
+class WordListFixture {
+
+    /** Letters repeated roughly in proportion to their frequency in English text */
+    private static final String ENGLISH_LETTERS =
+            "EEEEEEEEEEEETTTTTTTTTAAAAAAAAOOOOOOOIIIIIIINNNNNNNSSSSSSHHHHHHRRRRRRDDDDLLLLUUUCCCMMMWWFFGGYYPPBBVKJXQZ";
+
+    /** Value of the word list parameter that selects synthetic words, anything else is the path of a dictionary */
+    static final String SYNTHETIC = "synthetic";
+
+    private WordListFixture() {
+    }
+
+    /**
+     * @param source {@link #SYNTHETIC} or the path of a CSV dictionary
+     * @param size number of words in the list
+     * @param seed seed for the random choice of words
+     * @return new list of unplaced words
+     */
+    static LinkedList<Word> wordList(String source, int size, long seed) throws IOException {
+        return SYNTHETIC.equals(source) ? synthetic(size, seed) : sampled(source, size, seed);
+    }
+
+    static LinkedList<Word> synthetic(int size, long seed){
+        Random random = new Random(seed);
+        LinkedList<Word> wordList = new LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            int length = 3 + random.nextInt(10);
+            StringBuilder name = new StringBuilder(length);
+            for (int j = 0; j < length; j++) {
+                name.append(ENGLISH_LETTERS.charAt(random.nextInt(ENGLISH_LETTERS.length())));
+            }
+            wordList.add(new Word(name.toString(), "Synthetic word " + i));
+        }
+        return wordList;
+    }
+
+    static LinkedList<Word> sampled(String dictionary, int size, long seed) throws IOException {
+        List<String> lines = new ArrayList<>();
+        try(BufferedReader br = new BufferedReader(new FileReader(dictionary))){
+            String line;
+            while ((line = br.readLine()) != null){
+                if(line.indexOf(',') > 0){
+                    lines.add(line);
+                }
+            }
+        }
+
+        Random random = new Random(seed);
+        LinkedList<Word> wordList = new LinkedList<>();
+        for (int i = 0; i < size; i++) {
+            String line = lines.get(random.nextInt(lines.size()));
+            int comma = line.indexOf(',');
+            wordList.add(new Word(line.substring(0, comma).trim(), line.substring(comma + 1).trim()));
+        }
+        return wordList;
+    }
+
+    /**
+     * Writes a word list as a CSV file, one word and its description per line
+     * @return the temporary file, deleted when the JVM exits
+     */
+    static File writeCsv(List<Word> wordList) throws IOException {
+        File file = File.createTempFile("crossword-benchmark", ".csv");
+        file.deleteOnExit();
+        try(BufferedWriter writer = new BufferedWriter(new FileWriter(file))){
+            for (Word word : wordList) {
+                writer.write(word.name.toLowerCase());
+                writer.write(" , ");
+                writer.write(word.description.replace(',', ';'));
+                writer.newLine();
+            }
+        }
+        return file;
+    }
+
+    /**
+     * Places words horizontally on every other row, a dozen columns apart, so that lots of words are placed without
+     * running the placement algorithm. None of them touch each other.
+     */
+    static void placeOnRows(List<Word> wordList, int wordsPerRow){
+        int i = 0;
+        for (Word word : wordList) {
+            word.placeAt(2 * (i / wordsPerRow), 14 * (i % wordsPerRow), false);
+            i++;
+        }
+    }
+}
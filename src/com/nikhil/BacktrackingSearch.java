@@ -0,0 +1,302 @@
+package com.nikhil;
+
+/**
+ * Depth first search for the largest set of words that can all be joined to one another, for word lists small enough
+ * (a few dozen words) that the greedy placement leaves avoidable disjoint words behind. Moves are the intersection
+ * options of an unplaced word with a placed word whose placement the occupancy allows, which is the same model the
+ * greedy placement works with.
+ * <p>
+ * Every node places the word with the fewest moves left (most constrained first), trying its moves that cross the
+ * most placed words first, and finally tries leaving that word out of the joined words altogether. Forward checking
+ * bounds every node: an unplaced word counts towards the bound only if it can still be placed now, or if one of the
+ * words it crosses is still to be placed. A subtree is cut off once its bound can't beat the best set found so far.
+ * <p>
+ * Nothing is copied while searching. Placing a word is taken back by {@link Word#unplace()} and by rolling the
+ * occupancy back through its undo log, only the best set of placements found is copied. The search stops when it has
+ * gone through every node, when it runs out of time or when it is as deep as allowed, and leaves the words placed as
+ * in the best set found.
+ */
+public class BacktrackingSearch {
+
+    private final Word[] words;
+    private final Occupancy occupancy;
+    private final long deadline;
+    private final int maxDepth;
+
+    private final boolean[] leftOut;
+    /** Moves of every unplaced word, counted at the current node */
+    private final int[] moveCounts;
+    /** Moves tried at each depth, reused by every node at that depth */
+    private final LongList[] movesAtDepth;
+    private final LongSet distinctMoves = new LongSet();
+
+    /** Ids of the words placed by the search, in placement order */
+    private final int[] placedIds;
+    private int placedCount = 0;
+    /** Words placed before the search started, which it leaves alone */
+    private int initiallyPlaced = 0;
+
+    private final int[] bestIds;
+    private final int[] bestRows;
+    private final int[] bestCols;
+    private final boolean[] bestVertical;
+    private int bestCount = -1;
+
+    private long nodes = 0;
+    private boolean timedOut = false;
+
+    /**
+     * @param letterIndex index of the word list to place, whose words have their intersection options computed
+     * @param occupancy occupancy of the grid of the words
+     * @param timeBudgetMillis time the search may take, after which it settles for the best set found so far
+     * @param maxDepth deepest the search may go, every level placing a word or leaving one out
+     */
+    public BacktrackingSearch(LetterIndex letterIndex, Occupancy occupancy, long timeBudgetMillis, int maxDepth) {
+        int wordCount = letterIndex.wordCount();
+        this.words = new Word[wordCount];
+        for (int id = 0; id < wordCount; id++) {
+            words[id] = letterIndex.wordAt(id);
+        }
+        this.occupancy = occupancy;
+        this.deadline = System.nanoTime() + timeBudgetMillis * 1_000_000L;
+        this.maxDepth = Math.min(maxDepth, wordCount);
+
+        this.leftOut = new boolean[wordCount];
+        this.moveCounts = new int[wordCount];
+        this.movesAtDepth = new LongList[this.maxDepth + 1];
+        this.placedIds = new int[wordCount];
+        this.bestIds = new int[wordCount];
+        this.bestRows = new int[wordCount];
+        this.bestCols = new int[wordCount];
+        this.bestVertical = new boolean[wordCount];
+    }
+
+    /**
+     * Runs the search and places the best set of words found. If nothing is placed yet, the word with the most
+     * intersection options is placed first, at the origin.
+     * @return number of words placed by the search
+     */
+    public int run(){
+        for (Word word : words) {
+            if(word.placed){
+                initiallyPlaced++;
+            }
+        }
+        if(initiallyPlaced == 0 && words.length > 0){
+            Word seed = words[0];
+            for (Word word : words) {
+                if(word.getTotalIntersections() > seed.getTotalIntersections()){
+                    seed = word;
+                }
+            }
+            seed.placeAt(0, 0, false);
+            placedIds[placedCount++] = seed.id;
+        }
+
+        occupancy.startUndoLog();
+        try {
+            search(0);
+        } finally {
+            occupancy.stopUndoLog();
+        }
+
+        // the search is back where it started, only the best placements are made again
+        for (int i = 0; i < bestCount; i++) {
+            Word word = words[bestIds[i]];
+            if(!word.placed){
+                word.placeAt(bestRows[i], bestCols[i], bestVertical[i]);
+            }
+        }
+        return Math.max(bestCount, placedCount);
+    }
+
+    /** @return number of nodes the search went through */
+    public long nodes(){
+        return nodes;
+    }
+
+    /** @return true if the search ran out of time before going through every node */
+    public boolean timedOut(){
+        return timedOut;
+    }
+
+    private void search(int depth){
+        nodes++;
+        if(placedCount > bestCount){
+            recordBest();
+        }
+        if(depth >= maxDepth || outOfTime()){
+            return;
+        }
+
+        // count the moves of every word, and bound what this subtree can achieve
+        int bound = placedCount;
+        int mostConstrained = -1;
+        for (Word word : words) {
+            if(word.placed || leftOut[word.id]){
+                continue;
+            }
+            moveCounts[word.id] = countMoves(word);
+            if(moveCounts[word.id] > 0){
+                bound++;
+                if(mostConstrained < 0 || moveCounts[word.id] < moveCounts[mostConstrained]){
+                    mostConstrained = word.id;
+                }
+            }else if(hasCrossingToPlace(word)){
+                bound++;
+            }
+        }
+        if(mostConstrained < 0 || bound <= bestCount){
+            return;
+        }
+
+        Word word = words[mostConstrained];
+        LongList moves = movesOf(word, depth);
+        for (int m = 0; m < moves.size() && !timedOut; m++) {
+            long move = moves.get(m);
+            int mark = occupancy.mark();
+            word.placeAt(rowOf(move), colOf(move), isVertical(move));
+            placedIds[placedCount++] = word.id;
+
+            search(depth + 1);
+
+            placedCount--;
+            word.unplace();
+            occupancy.undoTo(mark);
+        }
+
+        // the word may be in the way of more words than it joins
+        if(!timedOut){
+            leftOut[word.id] = true;
+            search(depth + 1);
+            leftOut[word.id] = false;
+        }
+    }
+
+    private boolean outOfTime(){
+        if(!timedOut && (nodes & 0x3F) == 0 && System.nanoTime() > deadline){
+            timedOut = true;
+        }
+        return timedOut;
+    }
+
+    /** @return number of options of an unplaced word with a placed word that the occupancy allows */
+    private int countMoves(Word word){
+        int count = 0;
+        for (int i = 0; i < word.intersectionOptionCount(); i++) {
+            long option = word.intersectionOptionAt(i);
+            Word crossing = words[IntersectionOption.crossingIdOf(option)];
+            if(crossing.placed && isAllowed(word, option, crossing)){
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /** @return true if a word crosses a word that is neither placed nor left out, which may join it later */
+    private boolean hasCrossingToPlace(Word word){
+        for (int i = 0; i < word.intersectionOptionCount(); i++) {
+            Word crossing = words[IntersectionOption.crossingIdOf(word.intersectionOptionAt(i))];
+            if(!crossing.placed && !leftOut[crossing.id]){
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAllowed(Word word, long option, Word crossing){
+        int row = IntersectionOption.projectedRow(crossing, IntersectionOption.crossingIndexOf(option),
+                IntersectionOption.sourceIndexOf(option));
+        int col = IntersectionOption.projectedCol(crossing, IntersectionOption.crossingIndexOf(option),
+                IntersectionOption.sourceIndexOf(option));
+        return occupancy.isPlacementAllowed(word.name, row, col, !crossing.vertical);
+    }
+
+    /**
+     * Lists the distinct placements of a word allowed by the occupancy, the ones crossing the most placed words first
+     * @return moves packed as the number of letters already in place, the row, column and alignment, see
+     * {@link #move(int, int, int, boolean)}
+     */
+    private LongList movesOf(Word word, int depth){
+        LongList moves = movesAtDepth[depth];
+        if(moves == null){
+            moves = movesAtDepth[depth] = new LongList();
+        }
+        moves.clear();
+        distinctMoves.clear();
+
+        for (int i = 0; i < word.intersectionOptionCount(); i++) {
+            long option = word.intersectionOptionAt(i);
+            Word crossing = words[IntersectionOption.crossingIdOf(option)];
+            if(!crossing.placed || !isAllowed(word, option, crossing)){
+                continue;
+            }
+            int row = IntersectionOption.projectedRow(crossing, IntersectionOption.crossingIndexOf(option),
+                    IntersectionOption.sourceIndexOf(option));
+            int col = IntersectionOption.projectedCol(crossing, IntersectionOption.crossingIndexOf(option),
+                    IntersectionOption.sourceIndexOf(option));
+            boolean vertical = !crossing.vertical;
+            if(distinctMoves.add(move(0, row, col, vertical))){
+                moves.add(move(Math.min(lettersInPlace(word, row, col, vertical), MAX_LETTERS_IN_PLACE), row, col,
+                        vertical));
+            }
+        }
+
+        // most letters in place first, that is the lowest key once negated
+        for (int m = 0; m < moves.size(); m++) {
+            moves.set(m, ~moves.get(m));
+        }
+        moves.sort();
+        for (int m = 0; m < moves.size(); m++) {
+            moves.set(m, ~moves.get(m));
+        }
+        return moves;
+    }
+
+    private int lettersInPlace(Word word, int row, int col, boolean vertical){
+        int inPlace = 0;
+        for (int i = 0; i < word.name.length(); i++) {
+            if(occupancy.letterAt(vertical ? row + i : row, vertical ? col : col + i) != 0){
+                inPlace++;
+            }
+        }
+        return inPlace;
+    }
+
+    // a move holds the letters in place in its top bits, then 28 bits of row and column each and the alignment
+
+    private static final int COORDINATE_BITS = 28;
+    private static final long COORDINATE_MASK = (1L << COORDINATE_BITS) - 1;
+    private static final int COORDINATE_OFFSET = 1 << (COORDINATE_BITS - 1);
+    private static final int MAX_LETTERS_IN_PLACE = (1 << (63 - 2 * COORDINATE_BITS - 1)) - 1;
+
+    private static long move(int lettersInPlace, int row, int col, boolean vertical){
+        return (long) lettersInPlace << (2 * COORDINATE_BITS + 1) |
+                (long) (row + COORDINATE_OFFSET) << (COORDINATE_BITS + 1) |
+                (long) (col + COORDINATE_OFFSET) << 1 |
+                (vertical ? 1 : 0);
+    }
+
+    private static int rowOf(long move){
+        return (int) (move >>> (COORDINATE_BITS + 1) & COORDINATE_MASK) - COORDINATE_OFFSET;
+    }
+
+    private static int colOf(long move){
+        return (int) (move >>> 1 & COORDINATE_MASK) - COORDINATE_OFFSET;
+    }
+
+    private static boolean isVertical(long move){
+        return (move & 1) != 0;
+    }
+
+    private void recordBest(){
+        bestCount = placedCount;
+        for (int i = 0; i < placedCount; i++) {
+            Word word = words[placedIds[i]];
+            bestIds[i] = word.id;
+            bestRows[i] = word.row;
+            bestCols[i] = word.col;
+            bestVertical[i] = word.vertical;
+        }
+    }
+}
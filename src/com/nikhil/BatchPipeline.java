@@ -0,0 +1,300 @@
+package com.nikhil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedList;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Generates a large number of puzzles, each out of its own random subset of a dictionary, in three stages:
+ * <ol>
+ *     <li>a reader samples the words of every puzzle from the dictionary,</li>
+ *     <li>a number of workers place the words of the puzzles, one grid at a time each,</li>
+ *     <li>a writer hands the finished grids over to a {@link PuzzleWriter}, on the thread running the pipeline.</li>
+ * </ol>
+ * Stages are connected by bounded queues. A stage that gets ahead of the next one blocks on the full queue between
+ * them, so that at any time there are no more puzzles in memory than the queues hold plus one per thread, however
+ * many puzzles are generated. With as many workers as cores and queues a few times that long, placement keeps every
+ * core busy while the reader and writer only step in now and then.
+ * <p>
+ * Every stage counts the puzzles it went through, the time it spent working on them and the time it spent waiting on
+ * its queues, see {@link StageCounter}.
+ */
+public class BatchPipeline {
+
+    /**
+     * Takes the finished grids of a pipeline. Only ever called from the thread running the pipeline
+     */
+    public interface PuzzleWriter {
+        /**
+         * @param number number of the puzzle, from 0 on. Puzzles come in the order they are finished
+         * @param grid the grid of the puzzle, all of its words placed
+         * @throws IOException if the puzzle can't be written, which stops the pipeline
+         */
+        void write(long number, Grid grid) throws IOException;
+    }
+
+    /** Counts of one stage, updated while the pipeline runs */
+    public static final class StageCounter {
+
+        private final String name;
+        private final LongAdder puzzles = new LongAdder();
+        private final LongAdder busyNanos = new LongAdder();
+        private final LongAdder waitingNanos = new LongAdder();
+        private volatile long startedAt = 0;
+        private volatile long stoppedAt = 0;
+
+        StageCounter(String name) {
+            this.name = name;
+        }
+
+        public String name(){
+            return name;
+        }
+
+        /** @return number of puzzles this stage went through */
+        public long puzzles(){
+            return puzzles.sum();
+        }
+
+        /** @return time spent on the puzzles, summed over the threads of the stage */
+        public long busyMillis(){
+            return busyNanos.sum() / 1_000_000;
+        }
+
+        /**
+         * @return time spent waiting for a puzzle from the previous stage or for room in the queue to the next one,
+         * summed over the threads of the stage. A stage that waits a lot is not the bottleneck
+         */
+        public long waitingMillis(){
+            return waitingNanos.sum() / 1_000_000;
+        }
+
+        /** @return puzzles per second since the pipeline started, until it stopped if it did */
+        public double throughput(){
+            long end = stoppedAt != 0 ? stoppedAt : System.nanoTime();
+            long elapsed = end - startedAt;
+            return startedAt == 0 || elapsed <= 0 ? 0 : puzzles() * 1e9 / elapsed;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d puzzles, %.1f/s, busy %d ms, waiting %d ms", name, puzzles(), throughput(),
+                    busyMillis(), waitingMillis());
+        }
+    }
+
+    /** Puzzle on its way through the pipeline */
+    private static final class Puzzle {
+        final long number;
+        final LinkedList<Word> words;
+        Grid grid;
+
+        Puzzle(long number, LinkedList<Word> words) {
+            this.number = number;
+            this.words = words;
+        }
+    }
+
+    /** Sent down the queues once there are no more puzzles, once for every worker */
+    private static final Puzzle END = new Puzzle(-1, null);
+
+    private final Dictionary dictionary;
+    private final int wordsPerPuzzle;
+    private final long puzzles;
+    private final int workers;
+    private final int queueCapacity;
+    private final long seed;
+
+    private final StageCounter reading = new StageCounter("reader");
+    private final StageCounter placing = new StageCounter("workers");
+    private final StageCounter writing = new StageCounter("writer");
+
+    private volatile Throwable failure = null;
+
+    /**
+     * Creates a pipeline with a worker per available core and queues twice as long as there are workers
+     * @param dictionary the words to sample the puzzles from
+     * @param wordsPerPuzzle number of words of every puzzle
+     * @param puzzles number of puzzles to generate
+     */
+    public BatchPipeline(Dictionary dictionary, int wordsPerPuzzle, long puzzles) {
+        this(dictionary, wordsPerPuzzle, puzzles, Runtime.getRuntime().availableProcessors(),
+                2 * Runtime.getRuntime().availableProcessors(), System.nanoTime());
+    }
+
+    /**
+     * @param dictionary the words to sample the puzzles from
+     * @param wordsPerPuzzle number of words of every puzzle
+     * @param puzzles number of puzzles to generate
+     * @param workers number of threads placing words
+     * @param queueCapacity number of puzzles each queue holds at most
+     * @param seed seed from which the words of each puzzle are sampled, the same seed giving the same puzzles
+     */
+    public BatchPipeline(Dictionary dictionary, int wordsPerPuzzle, long puzzles, int workers, int queueCapacity,
+                         long seed) {
+        if(wordsPerPuzzle < 1 || wordsPerPuzzle > dictionary.size()){
+            throw new IllegalArgumentException("Cannot make puzzles of " + wordsPerPuzzle + " words out of " +
+                    dictionary.size());
+        }
+        if(workers < 1 || queueCapacity < 1){
+            throw new IllegalArgumentException("At least one worker and room for one puzzle in the queues are needed");
+        }
+        this.dictionary = dictionary;
+        this.wordsPerPuzzle = wordsPerPuzzle;
+        this.puzzles = puzzles;
+        this.workers = workers;
+        this.queueCapacity = queueCapacity;
+        this.seed = seed;
+    }
+
+    /**
+     * Makes a writer exporting every puzzle to a file of its own, named after the number of the puzzle
+     * @param directory directory of the files, which must exist
+     * @param exporter format of the files
+     */
+    public static PuzzleWriter toDirectory(final Path directory, final GridExporter exporter){
+        return new PuzzleWriter() {
+            @Override
+            public void write(long number, Grid grid) throws IOException {
+                Path file = directory.resolve("puzzle-" + number + "." + exporter.fileExtension());
+                try (OutputStream out = Files.newOutputStream(file)) {
+                    exporter.export(grid, out);
+                }
+            }
+        };
+    }
+
+    /**
+     * Runs the pipeline until every puzzle is written, or until a stage fails
+     * @param writer takes the finished grids, on the calling thread
+     * @throws IOException if the writer failed
+     * @throws InterruptedException if the calling thread was interrupted, which stops the pipeline
+     * @throws IllegalStateException if the reader or a worker failed, with the failure as its cause
+     */
+    public void run(PuzzleWriter writer) throws IOException, InterruptedException {
+        BlockingQueue<Puzzle> sampled = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<Puzzle> placed = new ArrayBlockingQueue<>(queueCapacity);
+        ExecutorService threads = Executors.newFixedThreadPool(workers + 1);
+
+        long startedAt = System.nanoTime();
+        reading.startedAt = placing.startedAt = writing.startedAt = startedAt;
+        try {
+            threads.execute(() -> guard(() -> read(sampled)));
+            for (int i = 0; i < workers; i++) {
+                threads.execute(() -> guard(() -> place(sampled, placed)));
+            }
+            write(placed, writer);
+        } finally {
+            // on the way out because of a failure, the other stages may be blocked on their queues
+            threads.shutdownNow();
+            threads.awaitTermination(1, TimeUnit.MINUTES);
+            writing.stoppedAt = System.nanoTime();
+        }
+
+        if(failure != null){
+            throw new IllegalStateException("Batch stopped after " + writing.puzzles() + " puzzles", failure);
+        }
+    }
+
+    /** @return counts of the stage sampling words */
+    public StageCounter reading(){
+        return reading;
+    }
+
+    /** @return counts of the stage placing words, summed over the workers */
+    public StageCounter placing(){
+        return placing;
+    }
+
+    /** @return counts of the stage writing grids */
+    public StageCounter writing(){
+        return writing;
+    }
+
+    private interface Stage {
+        void run() throws InterruptedException;
+    }
+
+    /** Runs a stage off the calling thread, recording its failure for the writer to pick up */
+    private void guard(Stage stage){
+        try {
+            stage.run();
+        } catch (InterruptedException e) {
+            // stopped by the writer, which knows why
+        } catch (Throwable t) {
+            failure = t;
+        }
+    }
+
+    private void read(BlockingQueue<Puzzle> sampled) throws InterruptedException {
+        for (long number = 0; number < puzzles; number++) {
+            long start = System.nanoTime();
+            Puzzle puzzle = new Puzzle(number, dictionary.sample(wordsPerPuzzle, new Random(seed + number)));
+            long sampledAt = System.nanoTime();
+            sampled.put(puzzle);
+            reading.busyNanos.add(sampledAt - start);
+            reading.waitingNanos.add(System.nanoTime() - sampledAt);
+            reading.puzzles.increment();
+        }
+        for (int i = 0; i < workers; i++) {
+            sampled.put(END);
+        }
+        reading.stoppedAt = System.nanoTime();
+    }
+
+    private void place(BlockingQueue<Puzzle> sampled, BlockingQueue<Puzzle> placed) throws InterruptedException {
+        while (true) {
+            long start = System.nanoTime();
+            Puzzle puzzle = sampled.take();
+            long takenAt = System.nanoTime();
+            placing.waitingNanos.add(takenAt - start);
+            if(puzzle == END){
+                placed.put(END);
+                placing.stoppedAt = System.nanoTime();
+                return;
+            }
+
+            Grid grid = new Grid(puzzle.words);
+            grid.placeWords();
+            puzzle.grid = grid;
+            long placedAt = System.nanoTime();
+            placing.busyNanos.add(placedAt - takenAt);
+            placing.puzzles.increment();
+
+            placed.put(puzzle);
+            placing.waitingNanos.add(System.nanoTime() - placedAt);
+        }
+    }
+
+    private void write(BlockingQueue<Puzzle> placed, PuzzleWriter writer) throws IOException, InterruptedException {
+        int ended = 0;
+        while (ended < workers && failure == null) {
+
+            // polled rather than taken, so that a failure upstream doesn't leave the writer waiting forever
+            long start = System.nanoTime();
+            Puzzle puzzle = placed.poll(100, TimeUnit.MILLISECONDS);
+            long takenAt = System.nanoTime();
+            writing.waitingNanos.add(takenAt - start);
+            if(puzzle == null){
+                continue;
+            }
+            if(puzzle == END){
+                ended++;
+                continue;
+            }
+
+            writer.write(puzzle.number, puzzle.grid);
+            writing.busyNanos.add(System.nanoTime() - takenAt);
+            writing.puzzles.increment();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.nikhil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Numbered clues of a grid, laid out the way crossword formats expect them: cells are counted from the top left
+ * corner of the smallest rectangle enclosing the placed words, and the cells where words start are numbered in
+ * reading order, an across and a down word starting on the same cell sharing their number. Clues are listed by number,
+ * the across clue before the down clue of the same number, which is the order of a .puz file.
+ * <p>
+ * Cells that hold no letter are blocks. Numbering is done once, so that a grid can be exported to any number of
+ * formats without going through its words again.
+ */
+public class ClueNumbering {
+
+    private final GridSnapshot snapshot;
+    private final int width;
+    private final int height;
+    /** Number of every cell in row major order, 0 for the cells where no word starts */
+    private final int[] numbers;
+
+    private final Word[] clues;
+    private final int[] clueNumbers;
+    private int acrossCount = 0;
+
+    /** @param grid a grid whose placements are final */
+    public ClueNumbering(Grid grid) {
+        this.snapshot = grid.snapshot();
+        this.width = snapshot.width();
+        this.height = snapshot.height();
+        this.numbers = new int[width * height];
+
+        List<Word> placed = new ArrayList<>();
+        for (Word word : grid.words()) {
+            if(word.placed){
+                placed.add(word);
+            }
+        }
+
+        // sort the words by the cell they start on, across first, then hand out a number to each distinct cell
+        LongList starts = new LongList(placed.size());
+        for (int i = 0; i < placed.size(); i++) {
+            Word word = placed.get(i);
+            long cell = (long) (word.row - snapshot.minRow()) * width + (word.col - snapshot.minCol());
+            starts.add(cell << 32 | (word.vertical ? 1L << 31 : 0) | i);
+        }
+        starts.sort();
+
+        this.clues = new Word[placed.size()];
+        this.clueNumbers = new int[placed.size()];
+        int number = 0;
+        long previousCell = -1;
+        for (int i = 0; i < starts.size(); i++) {
+            long cell = starts.get(i) >>> 32;
+            if(cell != previousCell){
+                numbers[(int) cell] = ++number;
+                previousCell = cell;
+            }
+            clues[i] = placed.get((int) (starts.get(i) & Integer.MAX_VALUE));
+            clueNumbers[i] = number;
+            if(!clues[i].vertical){
+                acrossCount++;
+            }
+        }
+    }
+
+    /** @return number of columns of the grid */
+    public int width(){
+        return width;
+    }
+
+    /** @return number of rows of the grid */
+    public int height(){
+        return height;
+    }
+
+    /** @return letter on a cell, counted from the top left corner of the grid, 0 for a block */
+    public char letterAt(int row, int col){
+        return snapshot.letterAt(snapshot.minRow() + row, snapshot.minCol() + col);
+    }
+
+    /** @return number of a cell, counted from the top left corner of the grid, 0 if no word starts there */
+    public int numberAt(int row, int col){
+        return numbers[row * width + col];
+    }
+
+    /** @return number of clues, one per placed word */
+    public int clueCount(){
+        return clues.length;
+    }
+
+    /** @return number of across clues */
+    public int acrossCount(){
+        return acrossCount;
+    }
+
+    /**
+     * @param i position of the clue in the list of clues
+     * @return number of the clue
+     */
+    public int clueNumber(int i){
+        return clueNumbers[i];
+    }
+
+    /**
+     * @param i position of the clue in the list of clues
+     * @return true for a down clue, false for an across clue
+     */
+    public boolean isDown(int i){
+        return clues[i].vertical;
+    }
+
+    /**
+     * @param i position of the clue in the list of clues
+     * @return text of the clue, the description of its word. Empty if the word has none
+     */
+    public String clue(int i){
+        return clues[i].description == null ? "" : clues[i].description;
+    }
+
+    /**
+     * @param i position of the clue in the list of clues
+     * @return answer to the clue, the name of its word
+     */
+    public String answer(int i){
+        return clues[i].name;
+    }
+}
@@ -1,7 +1,6 @@
 package com.nikhil;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 
 /**
  * Corners are used to look for a target point within a defined region. They initiate at an intersection point
@@ -9,16 +8,51 @@ import java.util.LinkedList;
  */
 public class Corner {
 
-    /** Initial point is the point of intersection between two words */
-    private Location initialPoint;
+    /** Marks the absence of a live column */
+    private static final int NO_COLUMN = Integer.MIN_VALUE;
+
+    /** Initial point is the point of intersection between two words, packed, see {@link Location#pack(int, int)} */
+    private long initialPoint;
     private Direction direction;
     private int limitingRow;
     private int limitingColumn;
     private IntersectionOption intersectionOption;
-    private Location target;
+
+    /** The point being scanned, moved in place */
+    private int targetRow;
+    private int targetCol;
 
     /** Simple data holder for storing single intersections by scanning the area covered by this {@link Corner} */
-    private ArrayList<IntersectionOption> singleIntersections = new ArrayList<>();
+    private final ArrayList<IntersectionOption> singleIntersections = new ArrayList<>();
+    /** Packed form of every single intersection, to tell a new one in constant time */
+    private final LongSet singleIntersectionKeys = new LongSet();
+
+    // reused at every point of every scan, so that scanning a point allocates nothing
+
+    /** Packed available options of the crossing word at the current target */
+    private final LongList crossingScratch = new LongList();
+    /** Options of either word that could make a double intersection at the current target, see {@link #meetingKey} */
+    private final LongList sourceMeetings = new LongList();
+    private final LongList crossingMeetings = new LongList();
+    private final IntersectionOptionView sourceView = new IntersectionOptionView();
+    private final IntersectionOptionView crossingView = new IntersectionOptionView();
+
+    /**
+     * Indices of the source and crossing words at which some unplaced word crosses them, taken when a scan begins.
+     * Words only ever get placed during a scan, so an index found dead stays dead until the scan ends. The arrays
+     * are kept from one scan to the next and only grow
+     */
+    private boolean[] liveSourceIndices = new boolean[0];
+    private boolean[] liveCrossingIndices = new boolean[0];
+    private boolean liveIndicesTaken = false;
+
+    /** First live column of the area in the order of the scan, taken along with the live indices */
+    private int firstLiveColumn = NO_COLUMN;
+    /** Moves of the target since the corner was made, a jump over dead points counting as one */
+    private int moves = 0;
+
+    /** Number of words in the occupancy of the grid when the target last moved, -1 to force a visit */
+    private int wordsSeen = -1;
 
     /** Stores the intersection occurring from the vertical word of a double intersection */
     private IntersectionOption fromVerticalWord = null;
@@ -36,78 +70,278 @@ public class Corner {
      *                           must be placed
      */
     public Corner(Location initialPoint, Direction direction, int limitingRow, int limitingColumn, IntersectionOption intersectionOption) {
+        this(initialPoint.row, initialPoint.col, direction, limitingRow, limitingColumn, intersectionOption);
+    }
+
+    /** Creates a corner from two placed words, with the intersection point given by its row and column */
+    Corner(int row, int col, Direction direction, int limitingRow, int limitingColumn, IntersectionOption intersectionOption) {
+        this.init(row, col, direction, limitingRow, limitingColumn, intersectionOption);
+    }
+
+    /** Makes this corner anew, for {@link CornerPool}. Scratch lists and arrays are kept */
+    void init(int row, int col, Direction direction, int limitingRow, int limitingColumn, IntersectionOption intersectionOption) {
         if(!intersectionOption.source.placed || !intersectionOption.crossing.placed){
             throw new RuntimeException("One of the words of the intersection is not placed while creating a corner");
         }
-        this.initialPoint = initialPoint;
+        this.initialPoint = Location.pack(row, col);
         this.direction = direction;
         this.limitingRow = limitingRow;
         this.limitingColumn = limitingColumn;
         this.intersectionOption = intersectionOption;
+        this.singleIntersections.clear();
+        this.singleIntersectionKeys.clear();
+        this.moves = 0;
         this.reset();
     }
 
+    /** Lets go of everything this corner refers to, before it goes back to its {@link CornerPool} */
+    void clear() {
+        this.intersectionOption = null;
+        this.singleIntersections.clear();
+        this.singleIntersectionKeys.clear();
+        this.crossingScratch.clear();
+    }
+
+    /** @return the point being scanned, packed, see {@link Location#pack(int, int)} */
+    long target(){
+        return Location.pack(targetRow, targetCol);
+    }
+
+    /** @return number of times the target moved since the corner was made, a jump over dead points counting once */
+    int moves(){
+        return moves;
+    }
+
+    private int initialRow(){
+        return Location.rowOf(initialPoint);
+    }
+
+    private int initialCol(){
+        return Location.colOf(initialPoint);
+    }
+
     /**
      * If the area to be scanned is less than 2X2 it is considered small enough to give any useful intersections
      * @return true if any dimension is less than  or equal to 2
      */
     public boolean isTooSmall(){
-        int across = Math.abs(limitingColumn - initialPoint.col);
-        int down = Math.abs(limitingRow - initialPoint.row);
+        int across = Math.abs(limitingColumn - initialCol());
+        int down = Math.abs(limitingRow - initialRow());
         return across<=2 && down<=2;
     }
 
     /**
-     * Moves the target point one step ahead row-wise
-     * @return true if the final row and column limit have been reached.
+     * Moves the target to the next point of the area worth looking at, row-wise. A point is skipped when neither the
+     * source word nor the crossing word has an available intersection option at the index projecting onto it, since
+     * nothing can be found there. The words of a corner cross each other, so a point is live when either its row is
+     * live for the vertical word or its column is live for the horizontal one: the target jumps straight to the next
+     * live column of its row, and over whole rows in which no point is live. The point right after a visit that placed
+     * a word is never skipped though: the grid retries its pending single intersections at every point visited, and
+     * the placement may have made one of them placeable.
+     * @return true if the target moved to the next point of the area, false if the final row and column limit have
+     * been reached, in which case the target is reset back to the initial point.
      */
     public boolean moveToNextIfPossible(){
 
+        Occupancy occupancy = this.intersectionOption.source.occupancy;
+        if(!this.liveIndicesTaken){
+            this.liveSourceIndices = liveIndicesOf(this.intersectionOption.source, this.liveSourceIndices);
+            this.liveCrossingIndices = liveIndicesOf(this.intersectionOption.crossing, this.liveCrossingIndices);
+            this.liveIndicesTaken = true;
+            this.firstLiveColumn = nextLiveColumn(initialCol() + columnStep());
+        }
+        boolean placedSinceLastMove = occupancy==null || occupancy.wordCount()!=this.wordsSeen;
+
+        if(!step() || (!placedSinceLastMove && !skipToLiveTarget())){
+            return false;
+        }
+
+        this.wordsSeen = occupancy==null ? -1 : occupancy.wordCount();
+        return true;
+    }
+
+    /**
+     * Moves the target ahead to the nearest live point, unless it is on one already
+     * @return false if no live point is left in the area, in which case the target is reset
+     */
+    private boolean skipToLiveTarget(){
+        if(isRowLive(targetRow)){
+            return true;
+        }
+
+        // rest of the row: only its live columns
+        this.moves++;
+        int column = nextLiveColumn(targetCol);
+        if(column!=NO_COLUMN){
+            this.targetCol = column;
+            return true;
+        }
+
+        // following rows: any row has a live point if some column is live, otherwise only live rows do
+        for(int row = targetRow + rowStep(); rowStep() > 0 ? row < limitingRow : row > limitingRow; row += rowStep()){
+            boolean rowLive = isRowLive(row);
+            if(rowLive || firstLiveColumn!=NO_COLUMN){
+                this.targetRow = row;
+                this.targetCol = rowLive ? initialCol() + columnStep() : firstLiveColumn;
+                return true;
+            }
+        }
+        this.reset();
+        return false;
+    }
+
+    /** @return the first live column from the given one on, in the order of the scan, or {@link #NO_COLUMN} */
+    private int nextLiveColumn(int column){
+        for(; columnStep() > 0 ? column < limitingColumn : column > limitingColumn; column += columnStep()){
+            if(isColumnLive(column)){
+                return column;
+            }
+        }
+        return NO_COLUMN;
+    }
+
+    /** @return 1 if the scan goes right, -1 if it goes left */
+    private int columnStep(){
+        return direction == Direction.TOP_RIGHT || direction == Direction.BOTTOM_RIGHT ? 1 : -1;
+    }
+
+    /** @return 1 if the scan goes down, -1 if it goes up */
+    private int rowStep(){
+        return direction == Direction.BOTTOM_RIGHT || direction == Direction.BOTTOM_LEFT ? 1 : -1;
+    }
+
+    /**
+     * Moves the target point one step ahead row-wise
+     * @return false if the final row and column limit have been reached, in which case the target is reset
+     */
+    private boolean step(){
+
+        this.moves++;
         switch (this.direction){
 
             case TOP_RIGHT:
-                if(++this.target.col>=limitingColumn){
-                    this.target.col = this.initialPoint.col + 1;
-                    if(--this.target.row<=limitingRow){
+                if(++this.targetCol>=limitingColumn){
+                    this.targetCol = initialCol() + 1;
+                    if(--this.targetRow<=limitingRow){
                         this.reset();
-                        return true;
+                        return false;
                     }
                 }
                 break;
             case BOTTOM_RIGHT:
-                if(++this.target.col>=limitingColumn){
-                    this.target.col = this.initialPoint.col + 1;
-                    if(++this.target.row>=limitingRow){
+                if(++this.targetCol>=limitingColumn){
+                    this.targetCol = initialCol() + 1;
+                    if(++this.targetRow>=limitingRow){
                         this.reset();
-                        return true;
+                        return false;
                     }
                 }
                 break;
             case BOTTOM_LEFT:
-                if(--this.target.col<=limitingColumn){
-                    this.target.col = this.initialPoint.col - 1;
-                    if(++this.target.row>=limitingRow){
+                if(--this.targetCol<=limitingColumn){
+                    this.targetCol = initialCol() - 1;
+                    if(++this.targetRow>=limitingRow){
                         this.reset();
-                        return true;
+                        return false;
                     }
                 }
                 break;
             case TOP_LEFT:
-                if(--this.target.col<=limitingColumn){
-                    this.target.col = this.initialPoint.col - 1;
-                    if(--this.target.row>=limitingRow){
+                if(--this.targetCol<=limitingColumn){
+                    this.targetCol = initialCol() - 1;
+                    if(--this.targetRow<=limitingRow){
                         this.reset();
-                        return true;
+                        return false;
                     }
                 }
                 break;
         }
-        return false;
+        return true;
+    }
+
+    /** @return true if an available intersection option of a vertical word of this corner projects onto the row */
+    private boolean isRowLive(int row){
+        return isLiveAt(this.intersectionOption.source, liveSourceIndices, row, true) ||
+                isLiveAt(this.intersectionOption.crossing, liveCrossingIndices, row, true);
+    }
+
+    /** @return true if an available intersection option of a horizontal word of this corner projects onto the column */
+    private boolean isColumnLive(int column){
+        return isLiveAt(this.intersectionOption.source, liveSourceIndices, column, false) ||
+                isLiveAt(this.intersectionOption.crossing, liveCrossingIndices, column, false);
+    }
+
+    /** @return true if the word runs along the given axis and its index at the given row or column is live */
+    private static boolean isLiveAt(Word word, boolean[] live, int rowOrColumn, boolean vertical){
+        if(word.vertical!=vertical){
+            return false;
+        }
+        int index = rowOrColumn - (vertical ? word.row : word.col);
+        return index>=0 && index<word.name.length() && live[index];
+    }
+
+    /** @return the live indices of a word, in the given array if it is long enough */
+    private static boolean[] liveIndicesOf(Word word, boolean[] live){
+        if(live.length < word.name.length()){
+            live = new boolean[word.name.length()];
+        }
+        for(int i = 0; i < word.name.length(); i++){
+            live[i] = word.hasAvailableIntersectionOptionsAt(i);
+        }
+        return live;
+    }
+
+    /**
+     * Estimates how much a scan of this corner could find, as the number of indices of its two words that project
+     * into its area and are still crossed by some unplaced word. Words only ever get placed, so the estimate only
+     * goes down over time; a corner whose estimate is 0 has had its area filled up and has nothing left to find.
+     * @return number of live indices of both words projecting into the area of this corner
+     */
+    public int expectedYield(){
+        // bounds of the scanned area, the row of the initial point included
+        int initialRow = initialRow();
+        int initialCol = initialCol();
+        int firstRow = Math.min(initialRow, direction == Direction.TOP_RIGHT || direction == Direction.TOP_LEFT ?
+                limitingRow + 1 : limitingRow - 1);
+        int lastRow = Math.max(initialRow, direction == Direction.TOP_RIGHT || direction == Direction.TOP_LEFT ?
+                limitingRow + 1 : limitingRow - 1);
+        int firstCol = direction == Direction.TOP_RIGHT || direction == Direction.BOTTOM_RIGHT ?
+                initialCol + 1 : limitingColumn + 1;
+        int lastCol = direction == Direction.TOP_RIGHT || direction == Direction.BOTTOM_RIGHT ?
+                limitingColumn - 1 : initialCol - 1;
+
+        return liveIndicesWithin(intersectionOption.source, firstRow, lastRow, firstCol, lastCol) +
+                liveIndicesWithin(intersectionOption.crossing, firstRow, lastRow, firstCol, lastCol);
+    }
+
+    /** @return number of live indices of a placed word whose row (vertical) or column (horizontal) is in range */
+    private static int liveIndicesWithin(Word word, int firstRow, int lastRow, int firstCol, int lastCol){
+        int first = word.vertical ? firstRow - word.row : firstCol - word.col;
+        int last = word.vertical ? lastRow - word.row : lastCol - word.col;
+        int live = 0;
+        for(int i = Math.max(first, 0); i <= Math.min(last, word.name.length() - 1); i++){
+            if(word.hasAvailableIntersectionOptionsAt(i)){
+                live++;
+            }
+        }
+        return live;
+    }
+
+    /**
+     * Corners at the same point facing the same direction scan the same area, whichever of the two crossing words
+     * they were made from
+     * @return the intersection point and direction of this corner packed into a long
+     */
+    public long pointAndDirection(){
+        return (initialPoint << 3) | direction.ordinal();
     }
 
-    /** Resets target position back to initial point */
+    /** Resets target position back to initial point, the next scan starts afresh */
     public void reset(){
-        this.target = this.initialPoint.clone();
+        this.targetRow = initialRow();
+        this.targetCol = initialCol();
+        this.liveIndicesTaken = false;
+        this.wordsSeen = -1;
     }
 
     public ArrayList<IntersectionOption> getSingleIntersections() {
@@ -127,89 +361,225 @@ public class Corner {
     }
 
     /**
-     * Finds all intersections at the current target in the area and stores them in a singleIntersections
+     * Finds all intersections at the current target in the area and stores them in a singleIntersections. Options
+     * are looked at in their packed form, an {@link IntersectionOption} is only made for a double intersection handed
+     * to the handler or a single intersection that wasn't found before.
      * @param doubleIntersectionHandler callback for handling a double intersection
      * @return true if the current target retrieved a double intersection and it was accepted by the handler.
      */
     public boolean findPossibleIntersections(DoubleIntersectionFound doubleIntersectionHandler){
 
         // search for index at that point and retrieve all intersections Options on that index
-        int projectedIndexOnSource = intersectionOption.source.projectingIndex(target);
-        LinkedList<IntersectionOption> sourceIntersections = intersectionOption.source.getAvailableIntersectionOptionsAt(projectedIndexOnSource);
+        Word source = intersectionOption.source;
+        Word crossing = intersectionOption.crossing;
+        source.viewIntersectionOptionsAt(source.projectingIndex(targetRow, targetCol), sourceView);
+        crossing.viewIntersectionOptionsAt(crossing.projectingIndex(targetRow, targetCol), crossingView);
+
+        // available options of the crossing word are picked once here, instead of once for every option of the
+        // source word
+        crossingScratch.clear();
+        for(int j = 0; j < crossingView.size(); j++){
+            if(crossingView.isAvailable(j)){
+                crossingScratch.add(crossingView.get(j));
+            }
+        }
 
-        int projectedIndexOnCrossing = intersectionOption.crossing.projectingIndex(target);
-        LinkedList<IntersectionOption> crossingIntersections = intersectionOption.crossing.getAvailableIntersectionOptionsAt(projectedIndexOnCrossing);
+        LetterIndex letterIndex = source.letterIndex;
+        if(findDoubleIntersection(doubleIntersectionHandler, letterIndex)){
+            return true;
+        }
 
+        // by this point we know that the double intersections were either not found, or were rejected
+        // we will just add the single intersections to the list
 
-        //check to see if any of the source intersections are intersecting with a crossing intersection
-        for(IntersectionOption sourceIntersection : sourceIntersections){
-            for(IntersectionOption crossingIntersection : crossingIntersections){
+        for(int i = 0; i < sourceView.size(); i++){
+            if(sourceView.isAvailable(i)){
+                addToSingleIntersectionsIfQualifies(sourceView.get(i),letterIndex);
+            }
+        }
 
-                // double intersection check
-                if(sourceIntersection.intersectsWith(crossingIntersection)!=null){
+        for(int j = 0; j < crossingScratch.size(); j++){
+            addToSingleIntersectionsIfQualifies(crossingScratch.get(j),letterIndex);
+        }
 
-                    // if double intersection is accepted, return true to end any further checks
-                    if(doubleIntersectionHandler.onDoubleIntersection(this,sourceIntersection,crossingIntersection)){
-                        return true;
-                    }
+        return false;
+    }
 
-                }
+    /**
+     * Looks for a double intersection at the current target. The crossing word of a source word option runs through
+     * the target perpendicular to the source word, and so does that of a crossing word option perpendicular to the
+     * crossing word: the two can only meet at the target, and only if they hold the same letter there. Options are
+     * thus bucketed by the letter they bring to the target, after discarding those whose crossing word doesn't reach
+     * the target. Pairs are then made lazily, the rarest letter first, each pair being handed to the handler until
+     * one is accepted; no pair is made beyond the accepted one.
+     * @return true if a double intersection was accepted by the handler
+     */
+    private boolean findDoubleIntersection(DoubleIntersectionFound doubleIntersectionHandler, LetterIndex letterIndex){
+        Word source = intersectionOption.source;
+        Word crossing = intersectionOption.crossing;
+
+        // the two words of a double intersection cross each other at the target, so one of them would run along a
+        // word already covering the target: the handler is bound to reject every pair, no need to look for them
+        Occupancy occupancy = source.occupancy;
+        if(occupancy!=null && occupancy.letterAt(targetRow,targetCol)!=0){
+            return false;
+        }
 
+        // nor can the two words meet right next to either word of the corner
+        if(Location.touches(targetRow,targetCol,source.row,source.col,source.name.length(),source.vertical) ||
+                Location.touches(targetRow,targetCol,crossing.row,crossing.col,crossing.name.length(),crossing.vertical)){
+            return false;
+        }
+
+        // crossing word options by the letter they bring to the target
+        crossingMeetings.clear();
+        for(int j = 0; j < crossingScratch.size(); j++){
+            long key = meetingKey(crossingScratch.get(j), letterIndex, false);
+            if(key!=NO_MEETING){
+                crossingMeetings.add(key << INDEX_BITS | j);
             }
         }
+        if(crossingMeetings.isEmpty()){
+            return false;
+        }
+        crossingMeetings.sort();
 
-        // by this point we know that the double intersections were either not found, or were rejected
-        // we will just add the single intersections to the list
+        // source word options by the rarity of the letter they bring to the target, rarest first
+        sourceMeetings.clear();
+        for(int i = 0; i < sourceView.size(); i++){
+            if(!sourceView.isAvailable(i)){
+                continue;
+            }
+            long key = meetingKey(sourceView.get(i), letterIndex, true);
+            if(key!=NO_MEETING){
+                sourceMeetings.add(key << INDEX_BITS | i);
+            }
+        }
+        sourceMeetings.sort();
+
+        for(int m = 0; m < sourceMeetings.size(); m++){
+            long sourceMeeting = sourceMeetings.get(m);
+            long sourceIntersection = sourceView.get((int) (sourceMeeting & INDEX_MASK));
+            long letter = (sourceMeeting >>> INDEX_BITS) & LETTER_MASK;
+
+            // every crossing word option bringing the same letter makes a pair
+            for(int n = firstMeetingWith(letter); n < crossingMeetings.size(); n++){
+                long crossingMeeting = crossingMeetings.get(n);
+                if(crossingMeeting >>> INDEX_BITS != letter){
+                    break;
+                }
+                long crossingIntersection = crossingScratch.get((int) (crossingMeeting & INDEX_MASK));
 
-        for(IntersectionOption sourceIntersection: sourceIntersections){
-            addToSingleIntersectionsIfQualifies(sourceIntersection);
+                // the same word can't be placed twice
+                if(IntersectionOption.crossingIdOf(sourceIntersection)==IntersectionOption.crossingIdOf(crossingIntersection)){
+                    continue;
+                }
+
+                // if double intersection is accepted, return true to end any further checks
+                if(doubleIntersectionHandler.onDoubleIntersection(this,
+                        IntersectionOption.unpack(sourceIntersection,letterIndex),
+                        IntersectionOption.unpack(crossingIntersection,letterIndex))){
+                    return true;
+                }
+            }
         }
+        return false;
+    }
+
+    /** No double intersection can be made with an option at the current target */
+    private static final long NO_MEETING = -1;
+    /** Bits below a meeting key holding the position of the option it was made from */
+    private static final int INDEX_BITS = 24;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+    private static final long LETTER_MASK = 0xFFFF;
+    /** Letters more frequent than this are all taken as equally common, so that keys stay positive */
+    private static final int MAX_FREQUENCY = (1 << (63 - 16 - INDEX_BITS)) - 1;
 
-        for(IntersectionOption crossingIntersection: crossingIntersections){
-            addToSingleIntersectionsIfQualifies(crossingIntersection);
+    /**
+     * Key of an option whose crossing word reaches the current target, made of the letter that crossing word brings
+     * to the target, below the frequency of that letter if asked for
+     * @param option a packed option of either word of this corner
+     * @param byRarity true to put the frequency of the letter in the key, so that keys sort rarest letter first
+     * @return the key, or {@link #NO_MEETING} if the crossing word of the option doesn't reach the target
+     */
+    private long meetingKey(long option, LetterIndex letterIndex, boolean byRarity){
+        Word source = letterIndex.wordAt(IntersectionOption.sourceIdOf(option));
+        int sourceIndex = IntersectionOption.sourceIndexOf(option);
+        int crossingIndex = IntersectionOption.crossingIndexOf(option);
+        String name = letterIndex.wordAt(IntersectionOption.crossingIdOf(option)).name;
+
+        // the crossing word runs perpendicular to its source word
+        int offset = source.vertical ?
+                targetCol - IntersectionOption.projectedCol(source,sourceIndex,crossingIndex) :
+                targetRow - IntersectionOption.projectedRow(source,sourceIndex,crossingIndex);
+        if(offset<0 || offset>=name.length()){
+            return NO_MEETING;
         }
 
-        return false;
+        char letter = name.charAt(offset);
+        return byRarity ? (long) Math.min(letterIndex.frequencyOf(letter), MAX_FREQUENCY) << 16 | letter : letter;
+    }
+
+    /** @return position of the first crossing word option bringing the given letter, in the sorted meetings */
+    private int firstMeetingWith(long letter){
+        long first = letter << INDEX_BITS;
+        int low = 0;
+        int high = crossingMeetings.size();
+        while(low < high){
+            int middle = (low + high) >>> 1;
+            if(crossingMeetings.get(middle) < first){
+                low = middle + 1;
+            }else{
+                high = middle;
+            }
+        }
+        return low;
     }
 
     /**
      * Adds an intersection option to the list of single intersections provided the crossing word of which is
      * overlapping the current target.
-     * @param intersectionOption the intersection which has no double intersection or was rejected from
-     *                           double intersection
+     * @param option the packed intersection which has no double intersection or was rejected from
+     *               double intersection
+     * @param letterIndex the index which provides the words of the option by their id
      * @return true if the list added the intersection, false if the list already contained the intersection
      * or the crossing word of the intersection option was not overlapping with the current target
      */
-    private boolean addToSingleIntersectionsIfQualifies(IntersectionOption intersectionOption){
+    private boolean addToSingleIntersectionsIfQualifies(long option, LetterIndex letterIndex){
 
         // check to see if the crossing word of this intersection option touches the current target
         // here we will assume that the crossing word is unplaced
-        Location crossingLocation = intersectionOption.projectedLocationOfCrossingWord();
-        int row = crossingLocation.row;
-        int col = crossingLocation.col;
-        int length = intersectionOption.crossing.name.length();
-        boolean vertical = !intersectionOption.source.vertical;
+        Word source = letterIndex.wordAt(IntersectionOption.sourceIdOf(option));
+        int sourceIndex = IntersectionOption.sourceIndexOf(option);
+        int crossingIndex = IntersectionOption.crossingIndexOf(option);
+        int row = IntersectionOption.projectedRow(source,sourceIndex,crossingIndex);
+        int col = IntersectionOption.projectedCol(source,sourceIndex,crossingIndex);
+        int length = letterIndex.wordAt(IntersectionOption.crossingIdOf(option)).name.length();
+        boolean vertical = !source.vertical;
 
         boolean overlapsTarget = false;
         if(vertical){
-            overlapsTarget = (target.col==col && // same column
-                    target.row>=row && target.row< (row+length)); // within span
+            overlapsTarget = (targetCol==col && // same column
+                    targetRow>=row && targetRow< (row+length)); // within span
         }else{
-            overlapsTarget = (target.row==row && // same row
-                    target.col>=col && target.col< (col+length)); // within span
+            overlapsTarget = (targetRow==row && // same row
+                    targetCol>=col && targetCol< (col+length)); // within span
 
         }
 
         // if this intersection overlaps target, and single intersections don't contain this, then add
-        if(overlapsTarget && !singleIntersections.contains(intersectionOption)){
-            singleIntersections.add(intersectionOption);
+        if(overlapsTarget && singleIntersectionKeys.add(option)){
+            singleIntersections.add(IntersectionOption.unpack(option,letterIndex));
             return true;
         }else{
             return false;
         }
     }
 
-    /** Functional interface for handling a double intersection */
+    /**
+     * Functional interface for handling a double intersection. Handlers are expected to accept only double
+     * intersections whose two words can be placed in the grid
+     */
     interface DoubleIntersectionFound{
         /**
          * Callback on finding a double intersection. Source word of both argument intersection options is placed
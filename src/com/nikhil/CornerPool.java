@@ -0,0 +1,48 @@
+package com.nikhil;
+
+import java.util.ArrayList;
+
+/**
+ * Corners of a grid that are done with, kept to be handed out again as new corners. A grid goes through a few corners
+ * for every word it places; with a pool, the corners along with their scratch lists are made once per run instead.
+ * A corner is released once nothing refers to it any longer: when its queue drops it or when its scan is over.
+ */
+public class CornerPool {
+
+    private final ArrayList<Corner> free = new ArrayList<>();
+    private int created = 0;
+
+    /**
+     * Takes a corner out of the pool, or makes one if the pool is empty. See
+     * {@link Corner#Corner(Location, Direction, int, int, IntersectionOption)} for the arguments.
+     */
+    Corner obtain(int row, int col, Direction direction, int limitingRow, int limitingColumn,
+                  IntersectionOption intersectionOption){
+        if(free.isEmpty()){
+            created++;
+            return new Corner(row, col, direction, limitingRow, limitingColumn, intersectionOption);
+        }
+        Corner corner = free.remove(free.size() - 1);
+        corner.init(row, col, direction, limitingRow, limitingColumn, intersectionOption);
+        return corner;
+    }
+
+    /**
+     * Returns a corner to the pool. The corner must not be used any more by whoever released it
+     * @param corner a corner taken from this pool
+     */
+    void release(Corner corner){
+        corner.clear();
+        free.add(corner);
+    }
+
+    /** @return number of corners ever made by this pool */
+    public int created(){
+        return created;
+    }
+
+    /** @return number of corners waiting in the pool to be handed out again */
+    public int available(){
+        return free.size();
+    }
+}
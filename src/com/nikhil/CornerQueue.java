@@ -0,0 +1,130 @@
+package com.nikhil;
+
+import java.util.List;
+import java.util.ListIterator;
+import java.util.PriorityQueue;
+
+/**
+ * Schedules the corners of a grid for scanning, most promising first. Corners are ordered by their
+ * {@link Corner#expectedYield()}, the most recently queued corner winning a tie so that the grid keeps growing around
+ * the words it just placed.
+ * <p>
+ * A corner at the same point and facing the same direction as one queued since the queue was made or cleared is
+ * dropped, and so is a corner too small to be worth a scan. Yields are taken when a corner is queued and only go down
+ * as words get placed, so they are refreshed when the corner comes up: a corner whose area got filled is dropped
+ * there, and a corner whose yield fell below that of the next one is queued again with its new yield. Corners the
+ * queue drops go back to its {@link CornerPool}, if it has one.
+ */
+public class CornerQueue {
+
+    private static class Entry implements Comparable<Entry> {
+        final Corner corner;
+        final long sequence;
+        int yield;
+
+        Entry(Corner corner, long sequence, int yield) {
+            this.corner = corner;
+            this.sequence = sequence;
+            this.yield = yield;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            if(this.yield != other.yield){
+                return Integer.compare(other.yield, this.yield);
+            }
+            return Long.compare(other.sequence, this.sequence);
+        }
+    }
+
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+    /** Point and direction of every corner queued since the queue was made or last cleared */
+    private final LongSet queued = new LongSet();
+    private long sequence = 0;
+    private final CornerPool pool;
+
+    public CornerQueue() {
+        this(null);
+    }
+
+    /** @param pool pool that dropped corners are released to, null to leave them to the garbage collector */
+    public CornerQueue(CornerPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Queues a corner, unless it is too small or a corner at the same point and in the same direction was queued
+     * before
+     * @return true if the corner got queued
+     */
+    public boolean add(Corner corner){
+        if(corner.isTooSmall() || !queued.add(corner.pointAndDirection())){
+            drop(corner);
+            return false;
+        }
+        int yield = corner.expectedYield();
+        if(yield == 0){
+            drop(corner);
+            return false;
+        }
+        queue.add(new Entry(corner, sequence++, yield));
+        return true;
+    }
+
+    /** Queues all the corners of a list such that, among equally promising ones, the first of the list comes first */
+    public void addAll(List<Corner> corners){
+        ListIterator<Corner> reverseOrder = corners.listIterator(corners.size());
+        while(reverseOrder.hasPrevious()){
+            add(reverseOrder.previous());
+        }
+    }
+
+    /** @return the most promising corner that still has something to find, null if there is none left */
+    public Corner poll(){
+        Entry entry;
+        while((entry = queue.poll()) != null){
+            int yield = entry.corner.expectedYield();
+            if(yield == 0){
+                drop(entry.corner); // the area of this corner got filled
+                continue;
+            }
+            if(yield < entry.yield){
+                entry.yield = yield;
+                Entry next = queue.peek();
+                if(next != null && next.compareTo(entry) < 0){
+                    queue.add(entry); // no longer the most promising, let it come up again in its new place
+                    continue;
+                }
+            }
+            return entry.corner;
+        }
+        return null;
+    }
+
+    private void drop(Corner corner){
+        if(pool != null){
+            pool.release(corner);
+        }
+    }
+
+    /**
+     * Drops every corner waiting and forgets the corners queued so far, so that corners at the same points may be
+     * queued again. The table of queued corners is kept for reuse
+     */
+    public void clear(){
+        Entry entry;
+        while((entry = queue.poll()) != null){
+            drop(entry.corner);
+        }
+        queued.clear();
+    }
+
+    public boolean isEmpty(){
+        return queue.isEmpty();
+    }
+
+    /** @return number of corners waiting, including ones whose area might have been filled since they were queued */
+    public int size(){
+        return queue.size();
+    }
+}
@@ -1,10 +1,8 @@
 package com.nikhil;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 
 /** Responsible for reading word list and generating main crossword. */
@@ -13,34 +11,41 @@ public class CrosswordFactory {
     public static Grid generateCrosswordFromCSV(String filename) throws IOException{
 
         try{
-            LinkedList<Word> wordList = readWordList(filename);
-//            printWordList(wordList);
-            return new Grid(wordList);
+            return new Grid(loadDictionary(filename).newWordList());
         }catch (IOException ex){
             throw ex;
         }
 
     }
 
-    private static LinkedList<Word> readWordList(String filename) throws IOException{
-        LinkedList<Word> wordList = new LinkedList<>();
+    /**
+     * Reads a word list into a dictionary. The dictionary can be kept around and used for any number of grids, so
+     * that the file is read only once.
+     * @param filename CSV or TSV file with a word and its description on each line, see {@link WordListScanner}, or
+     *                 a dictionary file compiled from such a word list, see {@link DictionaryFile}
+     * @return dictionary of all the words in the file
+     * @throws IOException if the file can't be read
+     */
+    public static Dictionary loadDictionary(String filename) throws IOException{
+        if(DictionaryFile.isDictionaryFile(Paths.get(filename))){
+            return DictionaryFile.read(Paths.get(filename));
+        }
 
-        //read all words with their meanings/descriptions line by line
-        try(BufferedReader br = new BufferedReader(new FileReader(filename))){
+        List<Word> wordList = readWordList(filename);
+//        printWordList(wordList);
+        return new Dictionary(wordList);
+    }
 
-            //the words are in CSV format
-            String line;
-            while ((line = br.readLine()) != null){
+    private static List<Word> readWordList(String filename) throws IOException{
+        final List<Word> wordList = new ArrayList<>();
 
-                String [] wordMeaning = line.split(",");
-                Word word = new Word(wordMeaning[0].trim(),wordMeaning[1].trim());
-                wordList.add(word);
+        //the words are in CSV (or TSV) format, scanned straight out of the mapped file
+        new WordListScanner(Paths.get(filename)).scan(new WordListScanner.WordFound() {
+            @Override
+            public void onWord(String name, String description) {
+                wordList.add(new Word(name, description));
             }
-
-        }catch (IOException ex){
-            throw ex;
-        }
-
+        });
 
         return wordList;
     }
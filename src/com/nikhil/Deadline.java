@@ -0,0 +1,73 @@
+package com.nikhil;
+
+/**
+ * Point in time after which a placement should stop, and settle for the words it has placed so far. A deadline can
+ * also be cancelled from any thread, which makes it pass right away, so it doubles as a cancellation token.
+ * Placements look at their deadline between words and between the steps of a corner scan, so they stop within a
+ * fraction of a millisecond of it passing.
+ */
+public final class Deadline {
+
+    private final boolean timed;
+    private final long passesAt;
+    private volatile boolean cancelled = false;
+    /** Times the deadline may still be looked at before it passes, negative if it doesn't count them */
+    private int checksLeft;
+
+    private Deadline(boolean timed, long passesAt, int checks) {
+        this.timed = timed;
+        this.passesAt = passesAt;
+        this.checksLeft = checks;
+    }
+
+    /** @return a deadline that only passes once it is cancelled */
+    public static Deadline none(){
+        return new Deadline(false, 0, -1);
+    }
+
+    /**
+     * @param millis time from now on after which the deadline passes
+     * @return a deadline passing after the given time, or once it is cancelled
+     */
+    public static Deadline after(long millis){
+        return new Deadline(true, System.nanoTime() + millis * 1_000_000L, -1);
+    }
+
+    /**
+     * Makes a deadline that passes once it has been looked at a number of times, which stops a placement at a given
+     * step regardless of how fast it runs. Only meant for a single thread
+     * @param checks number of times {@link #hasPassed()} answers, the last answer being the first true one
+     * @return a deadline passing after the given number of checks, or once it is cancelled
+     */
+    static Deadline afterChecks(int checks){
+        return new Deadline(false, 0, checks);
+    }
+
+    /** Makes the deadline pass now, for whoever is looking at it */
+    public void cancel(){
+        cancelled = true;
+    }
+
+    public boolean isCancelled(){
+        return cancelled;
+    }
+
+    /** @return true once the deadline is cancelled or its time is up */
+    public boolean hasPassed(){
+        if(checksLeft > 0){
+            checksLeft--;
+        }
+        return cancelled || checksLeft == 0 || timed && System.nanoTime() - passesAt >= 0;
+    }
+
+    /** @return milliseconds left until the deadline passes, 0 if it has, Long.MAX_VALUE if it has no time limit */
+    public long remainingMillis(){
+        if(cancelled || checksLeft == 0){
+            return 0;
+        }
+        if(!timed){
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, (passesAt - System.nanoTime()) / 1_000_000L);
+    }
+}
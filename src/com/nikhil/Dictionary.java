@@ -0,0 +1,124 @@
+package com.nikhil;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Words and descriptions of a word list, loaded once and shared by any number of grids, including grids generated at
+ * the same time. A dictionary is never modified after it is made: its words are never placed and its letter index is
+ * only read. Every grid gets a fresh list of words from {@link #newWordList()}, which carry the placement state of that
+ * grid alone while sharing the names, descriptions and letter index of the dictionary.
+ */
+public class Dictionary {
+
+    /** Entries of the dictionary, addressable by id. These are never placed */
+    private final Word[] entries;
+    /** Index over the entries, shared by every word list handed out */
+    private final LetterIndex letterIndex;
+
+    /**
+     * @param words the words of the dictionary. Only their names and descriptions are copied
+     */
+    public Dictionary(List<Word> words) {
+        LinkedList<Word> copies = new LinkedList<>();
+        for (Word word : words) {
+            copies.add(new Word(word));
+        }
+        this.entries = copies.toArray(new Word[0]);
+        this.letterIndex = new LetterIndex(copies);
+    }
+
+    /**
+     * Makes a dictionary out of entries and an index that are already built, see {@link DictionaryFile}
+     * @param entries the entries, addressable by id
+     * @param letterIndex index over the entries
+     */
+    Dictionary(Word[] entries, LetterIndex letterIndex) {
+        this.entries = entries;
+        this.letterIndex = letterIndex;
+    }
+
+    /** @return index over the entries of this dictionary */
+    LetterIndex letterIndex(){
+        return letterIndex;
+    }
+
+    /** @return total words in the dictionary */
+    public int size(){
+        return entries.length;
+    }
+
+    /** @return (uppercased) name of the word with the given id */
+    public String nameAt(int id){
+        return entries[id].name;
+    }
+
+    /** @return description of the word with the given id */
+    public String descriptionAt(int id){
+        return entries[id].description;
+    }
+
+    /** @return total number of times the given letter occurs across the dictionary */
+    public int frequencyOf(char letter){
+        return letterIndex.frequencyOf(letter);
+    }
+
+    /**
+     * Makes new unplaced words for all the entries, in dictionary order
+     * @return new word list bound to the letter index of this dictionary
+     */
+    public LinkedList<Word> newWordList(){
+        return newWordList(null);
+    }
+
+    /**
+     * Makes new unplaced words for all the entries. No word is read or indexed again: the new words share their
+     * names and descriptions with the dictionary and are bound to its letter index.
+     * @param ordering if not null, the list is shuffled with it. Word ids stay the same regardless of the ordering
+     * @return new word list bound to the letter index of this dictionary
+     */
+    public LinkedList<Word> newWordList(Random ordering){
+        Word[] words = new Word[entries.length];
+        LinkedList<Word> wordList = new LinkedList<>();
+        for (int id = 0; id < entries.length; id++) {
+            words[id] = new Word(entries[id]);
+            wordList.add(words[id]);
+        }
+
+        if(ordering != null){
+            Collections.shuffle(wordList, ordering);
+        }
+
+        letterIndex.bindTo(wordList, words);
+        return wordList;
+    }
+
+    /**
+     * Makes new unplaced words for a random subset of the entries, such as the words of one puzzle out of a large
+     * dictionary. Unlike {@link #newWordList()}, the words are not bound to the index of this dictionary, which is
+     * over all of its entries: a grid indexes them anew.
+     * @param count number of distinct entries to pick, at most the size of the dictionary
+     * @param random source of the picks
+     * @return new word list, in the order the entries were picked
+     */
+    public LinkedList<Word> sample(int count, Random random){
+        if(count > entries.length){
+            throw new IllegalArgumentException("Cannot sample " + count + " words out of " + entries.length);
+        }
+
+        // Floyd's algorithm, which picks distinct ids without going through all of them
+        LongSet picked = new LongSet(count);
+        LinkedList<Word> wordList = new LinkedList<>();
+        for (int bound = entries.length - count; bound < entries.length; bound++) {
+            int id = random.nextInt(bound + 1);
+            if(!picked.add(id)){
+                id = bound;
+                picked.add(id);
+            }
+            wordList.add(new Word(entries[id]));
+        }
+        return wordList;
+    }
+}
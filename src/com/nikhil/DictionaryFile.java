@@ -0,0 +1,286 @@
+package com.nikhil;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Precompiled binary form of a {@link Dictionary}. Compiling a word list once saves every later run from scanning the
+ * word list and building its letter index: loading maps the file and copies its tables as they are.
+ * <p>
+ * All numbers are little endian ints. The file holds, in order:
+ * <ol>
+ *     <li>a header of {@value #HEADER_INTS} ints: magic, version, number of words, number of distinct letters,
+ *     length of the letter table, number of letter occurrences, length in bytes of the names and of the
+ *     descriptions</li>
+ *     <li>offsets of every name in the string table of names, and one more marking its end</li>
+ *     <li>offsets of every description in the string table of descriptions, and one more marking its end</li>
+ *     <li>the letter table of the {@link LetterIndex}: keys, then slots</li>
+ *     <li>start of the occurrences of every letter slot, and one more marking the end. The difference between two
+ *     consecutive starts is the frequency of a letter</li>
+ *     <li>the packed occurrences of every letter</li>
+ *     <li>the string table of the uppercased names, then that of the descriptions, both in UTF-8</li>
+ * </ol>
+ */
+public class DictionaryFile {
+
+    /** "CWD1" */
+    static final int MAGIC = 0x31445743;
+    static final int VERSION = 1;
+    static final int HEADER_INTS = 8;
+
+    private DictionaryFile() {
+    }
+
+    /**
+     * Compiles a word list into a dictionary file
+     * <p>
+     * Usage: DictionaryFile &lt;word list&gt; &lt;dictionary file&gt;
+     */
+    public static void main(String[] args) throws IOException {
+        if(args.length != 2){
+            System.out.println("Usage: DictionaryFile <word list> <dictionary file>");
+            return;
+        }
+        Dictionary dictionary = CrosswordFactory.loadDictionary(args[0]);
+        write(dictionary, Paths.get(args[1]));
+        System.out.println("Compiled " + dictionary.size() + " words into " + args[1]);
+    }
+
+    /**
+     * Writes a dictionary to a file, replacing the file if it exists
+     * @param dictionary the dictionary to write
+     * @param path the file to write to
+     * @throws IOException if the file can't be written, or the dictionary is too large for a single file
+     */
+    public static void write(Dictionary dictionary, Path path) throws IOException {
+        int wordCount = dictionary.size();
+        LetterIndex letterIndex = dictionary.letterIndex();
+
+        byte[][] names = new byte[wordCount][];
+        byte[][] descriptions = new byte[wordCount][];
+        int[] nameOffsets = new int[wordCount + 1];
+        int[] descriptionOffsets = new int[wordCount + 1];
+        long namesLength = 0;
+        long descriptionsLength = 0;
+        for (int id = 0; id < wordCount; id++) {
+            names[id] = dictionary.nameAt(id).getBytes(StandardCharsets.UTF_8);
+            descriptions[id] = dictionary.descriptionAt(id).getBytes(StandardCharsets.UTF_8);
+            namesLength += names[id].length;
+            descriptionsLength += descriptions[id].length;
+            nameOffsets[id + 1] = (int) namesLength;
+            descriptionOffsets[id + 1] = (int) descriptionsLength;
+        }
+
+        int occurrenceCount = letterIndex.start[letterIndex.distinctLetters];
+        long size = 4L * (HEADER_INTS + nameOffsets.length + descriptionOffsets.length +
+                2 * letterIndex.letterKeys.length + letterIndex.distinctLetters + 1 + occurrenceCount) +
+                namesLength + descriptionsLength;
+        if(size > Integer.MAX_VALUE){
+            throw new IOException("Dictionary of " + wordCount + " words takes " + size + " bytes, more than a " +
+                    "dictionary file can hold");
+        }
+
+        Files.deleteIfExists(path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putInt(wordCount);
+            buffer.putInt(letterIndex.distinctLetters);
+            buffer.putInt(letterIndex.letterKeys.length);
+            buffer.putInt(occurrenceCount);
+            buffer.putInt((int) namesLength);
+            buffer.putInt((int) descriptionsLength);
+
+            putInts(buffer, nameOffsets, nameOffsets.length);
+            putInts(buffer, descriptionOffsets, descriptionOffsets.length);
+            putInts(buffer, letterIndex.letterKeys, letterIndex.letterKeys.length);
+            putInts(buffer, letterIndex.letterSlots, letterIndex.letterSlots.length);
+            putInts(buffer, letterIndex.start, letterIndex.distinctLetters + 1);
+            putInts(buffer, letterIndex.occurrences, occurrenceCount);
+
+            for (byte[] name : names) {
+                buffer.put(name);
+            }
+            for (byte[] description : descriptions) {
+                buffer.put(description);
+            }
+            buffer.force();
+        }
+    }
+
+    /**
+     * Checks if a file is a dictionary file, by its magic number
+     * @param path any file
+     * @return true if the file starts like a dictionary file
+     */
+    public static boolean isDictionaryFile(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+            while (magic.hasRemaining() && channel.read(magic) >= 0) {
+                // keep reading until the first four bytes are in
+            }
+            return !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+        }
+    }
+
+    /**
+     * Loads a dictionary from a dictionary file
+     * @param path a file written by {@link #write(Dictionary, Path)}
+     * @return the dictionary, with its letter index exactly as it was written
+     * @throws IOException if the file can't be read, is not a dictionary file of this version, or is truncated or
+     * corrupt
+     */
+    public static Dictionary read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if(channel.size() < 4 * HEADER_INTS || channel.size() > Integer.MAX_VALUE){
+                throw new IOException(path + " is not a dictionary file");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            if(buffer.getInt() != MAGIC){
+                throw new IOException(path + " is not a dictionary file");
+            }
+            int version = buffer.getInt();
+            if(version != VERSION){
+                throw new IOException(path + " is a dictionary file of version " + version + ", expected " + VERSION);
+            }
+            int wordCount = buffer.getInt();
+            int distinctLetters = buffer.getInt();
+            int letterTableLength = buffer.getInt();
+            int occurrenceCount = buffer.getInt();
+            int namesLength = buffer.getInt();
+            int descriptionsLength = buffer.getInt();
+
+            // counts and sizes are checked against the file before anything is allocated from them. The letter table
+            // is open addressed, so it needs a power of two length, and more slots than letters
+            if(wordCount < 0 || wordCount > LetterIndex.MAX_WORDS || distinctLetters < 0 || occurrenceCount < 0 ||
+                    namesLength < 0 || descriptionsLength < 0 || letterTableLength <= distinctLetters ||
+                    Integer.bitCount(letterTableLength) != 1){
+                throw new IOException(path + " has a corrupt header");
+            }
+            long expected = 4L * (2L * (wordCount + 1) + 2L * letterTableLength + distinctLetters + 1 +
+                    occurrenceCount) + namesLength + descriptionsLength;
+            if(expected != buffer.remaining()){
+                throw new IOException(path + " has " + buffer.remaining() + " bytes after its header where " +
+                        expected + " are expected, it is truncated or corrupt");
+            }
+
+            int[] nameOffsets = getInts(buffer, wordCount + 1);
+            int[] descriptionOffsets = getInts(buffer, wordCount + 1);
+            int[] letterKeys = getInts(buffer, letterTableLength);
+            int[] letterSlots = getInts(buffer, letterTableLength);
+            int[] start = getInts(buffer, distinctLetters + 1);
+            int[] occurrences = getInts(buffer, occurrenceCount);
+            checkOffsets(path, "names", nameOffsets, namesLength);
+            checkOffsets(path, "descriptions", descriptionOffsets, descriptionsLength);
+            checkOffsets(path, "letters", start, occurrenceCount);
+            char[] letters = lettersOfSlots(path, letterKeys, letterSlots, distinctLetters);
+
+            byte[] names = new byte[namesLength];
+            buffer.get(names);
+            byte[] descriptions = new byte[descriptionsLength];
+            buffer.get(descriptions);
+
+            Word[] entries = new Word[wordCount];
+            for (int id = 0; id < wordCount; id++) {
+                entries[id] = new Word(
+                        new String(names, nameOffsets[id], nameOffsets[id + 1] - nameOffsets[id], StandardCharsets.UTF_8),
+                        new String(descriptions, descriptionOffsets[id],
+                                descriptionOffsets[id + 1] - descriptionOffsets[id], StandardCharsets.UTF_8));
+            }
+
+            // every occurrence of a letter points at that very letter of a word
+            for (int slot = 0; slot < distinctLetters; slot++) {
+                for (int k = start[slot]; k < start[slot + 1]; k++) {
+                    int id = LetterIndex.wordIdOf(occurrences[k]);
+                    int position = LetterIndex.positionOf(occurrences[k]);
+                    if(id >= wordCount || position >= entries[id].name.length() ||
+                            entries[id].name.charAt(position) != letters[slot]){
+                        throw new IOException(path + " has a letter occurrence out of its words");
+                    }
+                }
+            }
+
+            // and every letter is where a lookup probes for it
+            List<Word> entryList = Arrays.asList(entries);
+            LetterIndex letterIndex = new LetterIndex(entryList, entries, letterKeys, letterSlots, distinctLetters,
+                    start, occurrences);
+            for (int slot = 0; slot < distinctLetters; slot++) {
+                if(letterIndex.slotOf(letters[slot]) != slot){
+                    throw new IOException(path + " has a corrupt letter table");
+                }
+            }
+            return new Dictionary(entries, letterIndex);
+        }
+    }
+
+    /**
+     * Checks the letter table: exactly as many keys as distinct letters, so that free slots are left for lookups to
+     * stop at, every key a char found once, and every letter in a slot of its own
+     * @return the letter of every slot
+     */
+    private static char[] lettersOfSlots(Path path, int[] letterKeys, int[] letterSlots, int distinctLetters)
+            throws IOException {
+        char[] letters = new char[distinctLetters];
+        boolean[] taken = new boolean[distinctLetters];
+        LongSet keys = new LongSet(distinctLetters);
+        int keyCount = 0;
+        for (int i = 0; i < letterKeys.length; i++) {
+            int key = letterKeys[i];
+            if(key == LetterIndex.NO_LETTER){
+                continue;
+            }
+            int slot = letterSlots[i];
+            if(++keyCount > distinctLetters || key < Character.MIN_VALUE || key > Character.MAX_VALUE ||
+                    !keys.add(key) || slot < 0 || slot >= distinctLetters || taken[slot]){
+                throw new IOException(path + " has a corrupt letter table");
+            }
+            taken[slot] = true;
+            letters[slot] = (char) key;
+        }
+        if(keyCount != distinctLetters){
+            throw new IOException(path + " has a corrupt letter table");
+        }
+        return letters;
+    }
+
+    /** Checks that a table of offsets starts at 0, never goes back and ends at the given end */
+    private static void checkOffsets(Path path, String table, int[] offsets, int end) throws IOException {
+        boolean ordered = offsets[0] == 0 && offsets[offsets.length - 1] == end;
+        for (int i = 1; ordered && i < offsets.length; i++) {
+            ordered = offsets[i - 1] <= offsets[i];
+        }
+        if(!ordered){
+            throw new IOException(path + " has corrupt offsets of " + table);
+        }
+    }
+
+    private static void putInts(ByteBuffer buffer, int[] values, int length){
+        IntBuffer ints = buffer.asIntBuffer();
+        ints.put(values, 0, length);
+        buffer.position(buffer.position() + 4 * length);
+    }
+
+    private static int[] getInts(ByteBuffer buffer, int length){
+        int[] values = new int[length];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + 4 * length);
+        return values;
+    }
+}
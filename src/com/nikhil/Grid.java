@@ -1,5 +1,6 @@
 package com.nikhil;
 
+import java.io.*;
 import java.util.*;
 
 /**
@@ -11,32 +12,100 @@ public class Grid implements Corner.DoubleIntersectionFound{
 
     private LinkedList<Word> wordList;
     private int wordsPlaced = 0;
-    private ArrayList<LetterFrequency> letterFrequencyPointers = new ArrayList<>(30);
-    private ArrayList<LetterFrequency> sortedLetterFrequencies = new ArrayList<>(30);
-    private LinkedList<Corner> generatedCorners = new LinkedList<>();
+    private LetterFrequencies letterFrequencies;
+    private CornerPool cornerPool = new CornerPool();
+    private CornerQueue generatedCorners = new CornerQueue(cornerPool);
+    private Occupancy occupancy = new Occupancy();
+    private GridSnapshot snapshot = new GridSnapshot();
+    private LetterIndex letterIndex;
+    private LetterRarity letterRarity;
+    /** Number of words, from the start of the list, whose intersection options are computed */
+    private int wordsWithOptions = 0;
+    /** Corner whose scan was under way when the deadline of the placement passed, scanned first when it carries on */
+    private Corner interruptedCorner;
 
     public Grid(LinkedList<Word> wordList) {
         this.wordList = wordList;
+
+        // words handed out by a dictionary come indexed already, any other list is indexed here
+        Word first = wordList.isEmpty() ? null : wordList.getFirst();
+        if(first!=null && first.letterIndex!=null && first.letterIndex.isBuiltFrom(wordList)){
+            this.letterIndex = first.letterIndex;
+        }else{
+            this.letterIndex = LetterIndex.attachTo(wordList);
+        }
+
+        // words placed from here on record themselves in the occupancy and the snapshot, the ones already placed are
+        // recorded now
+        for(Word word : wordList){
+            word.occupancy = this.occupancy;
+            word.snapshot = this.snapshot;
+            word.cornerPool = this.cornerPool;
+            if(word.placed){
+                this.occupancy.add(word);
+                this.snapshot.add(word);
+            }
+        }
     }
 
+    /** Places all the words of the list in the grid and prints the result */
     public void placeWordsInGrid() {
+        placeWords();
+        print();
+    }
 
-        // calling this method more than once will be a no-op
+    /**
+     * Places the words of the list in the grid until they are all placed or the deadline passes, and prints whatever
+     * got placed
+     * @param deadline when to settle for the words placed so far
+     * @return how far the placement got
+     */
+    public PlacementResult placeWordsInGrid(Deadline deadline) {
+        PlacementResult result = placeWords(deadline);
+        print();
+        return result;
+    }
+
+    /**
+     * Places all the words of the list in the grid, without printing. The ordering of the word list acts as the
+     * tie-break between equally rare letters and equally good intersections.
+     */
+    void placeWords() {
+        placeWords(Deadline.none());
+    }
+
+    /**
+     * Places the words of the list in the grid, without printing, until they are all placed or the deadline passes.
+     * The deadline is looked at between words and between the steps of a corner scan. Once it passes, the words placed
+     * so far stay where they are and the rest are left unplaced: the grid is the best partial grid found in the time.
+     * Calling this method again carries on from there.
+     * @param deadline when to settle for the words placed so far
+     * @return how far the placement got
+     */
+    public PlacementResult placeWords(Deadline deadline) {
+        long start = System.nanoTime();
+
+        // calling this method once every word is placed will be a no-op
         if(this.wordsPlaced==this.wordList.size()){
-            return;
+            return result(start, deadline);
+        }
+
+        if(!computeIntersectionOptions(deadline)){
+            return result(start, deadline);
         }
 
-//        // compute the intersection options of all the words in the list
-//        for(Word word : this.wordList){
-//            word.computeIntersectionOptions(this.wordList);
-//        }
-//
 //        //sort this list in increasing order of their number of intersection options
 //        Collections.sort(this.wordList,new CompareTotalIntersections());
 
-        computeAndSortLetterFrequencies();
+        // the frequencies follow the words placed from then on, a placement carrying on keeps them as they are
+        if(letterFrequencies==null){
+            computeAndSortLetterFrequencies();
+        }
+
+        // a placement stopped by its deadline carries on with the corners it left, before placing any other word
+        scanCorners(deadline);
 
-        while(wordsPlaced<wordList.size()){
+        while(wordsPlaced<wordList.size() && !deadline.hasPassed()){
 
             // find the highest and lowest words that actually match with an intersection option
             IntersectionOption crossingAtRareLetter = this.findAvailableIntersectionPreferringRareLetters();
@@ -48,7 +117,7 @@ public class Grid implements Corner.DoubleIntersectionFound{
                 for(Word word : wordList){
 
                     // only disjoint words remain at this point
-                    if(!word.placed){
+                    if(!word.placed && !deadline.hasPassed()){
                         placeDisjoint(word);
                     }
                 }
@@ -62,58 +131,159 @@ public class Grid implements Corner.DoubleIntersectionFound{
 
             }else{
                 // just place the crossing word as usual and go by filling in as many corners as possible
-                generatedCorners.addAll(crossingAtRareLetter.placeCrossingWord(this.wordList)); // TODO mind the order of the stack on add all
+                generatedCorners.addAll(crossingAtRareLetter.placeCrossingWord(this.wordList));
+                wordsPlaced++;
             }
 
-            //exhaust out the stack
-            while(!generatedCorners.isEmpty()){
-                Corner corner = generatedCorners.pop();
-                if(corner.isTooSmall()){
-                    continue;
-                }
+            //exhaust out the queue, most promising corner first
+            scanCorners(deadline);
+        }
 
-                // scan the area covered by this corner
-                while(corner.moveToNextIfPossible()){
+        // once every word is placed, no corner has anything left to find
+        if(wordsPlaced==wordList.size()){
+            if(interruptedCorner!=null){
+                cornerPool.release(interruptedCorner);
+                interruptedCorner = null;
+            }
+            generatedCorners.clear();
+        }
 
-                    // look for double intersection that can be placed in this grid
-                    boolean foundDoubleIntersection = corner.findPossibleIntersections(this);
+        return result(start, deadline);
+    }
 
-                    if(!foundDoubleIntersection){
+    private PlacementResult result(long start, Deadline deadline) {
+        int unplaced = wordList.size() - wordsPlaced;
+        boolean stoppedByDeadline = unplaced > 0 && deadline.hasPassed();
+        return new PlacementResult(wordsPlaced, unplaced, stoppedByDeadline, (System.nanoTime() - start) / 1_000_000);
+    }
 
-                        // get the intersection which crosses with a rarer letter
-                        ArrayList<IntersectionOption> singleIntersections = corner.getSingleIntersections();
+    /**
+     * Exhausts the queue of corners, most promising corner first, until it is empty or the deadline passes. A corner
+     * whose scan the deadline interrupts is kept as it is, and its scan carries on from the same point next time.
+     * @param deadline when to stop scanning
+     */
+    private void scanCorners(Deadline deadline) {
+        Corner corner = interruptedCorner != null ? interruptedCorner : generatedCorners.poll();
+        interruptedCorner = null;
+        while(corner != null){
+
+            // scan the area covered by this corner
+            boolean scanned = false;
+            while(!deadline.hasPassed()){
+                if(!corner.moveToNextIfPossible()){
+                    scanned = true;
+                    break;
+                }
 
-                        // sort in the increasing order of letter frequencies
-                        singleIntersections.sort(new RareLettersFirst());
+                // look for double intersection that can be placed in this grid
+                boolean foundDoubleIntersection = corner.findPossibleIntersections(this);
 
-                        for(IntersectionOption singleIntersection : singleIntersections){
+                if(!foundDoubleIntersection){
+                    placeSingleIntersection(corner);
+                }
+            }
 
-                            // place them if possible
-                            Location location = singleIntersection.projectedLocationOfCrossingWord();
-                            if(isPlacementOfWordAllowed(
-                                    singleIntersection.crossing,
-                                    location.row,
-                                    location.col,
-                                    !singleIntersection.source.vertical)){
-                                LinkedList<Corner> cornerStack = singleIntersection.placeCrossingWord(wordList);
-                                pushEntireStack(cornerStack);
-                                wordsPlaced++;
-                                break;
-                            }
-                        }
+            if(!scanned){
+                interruptedCorner = corner;
+                return;
+            }
 
+            // nothing refers to the corner once its scan is over
+            cornerPool.release(corner);
 
-                    }
+            // the corners still queued are scanned if the placement carries on later
+            if(deadline.hasPassed()){
+                return;
+            }
+            corner = generatedCorners.poll();
+        }
+    }
 
-                }
+    /** Places the crossing word of the first single intersection of a corner that fits, rarest letter first */
+    private void placeSingleIntersection(Corner corner) {
 
+        // get the intersection which crosses with a rarer letter
+        ArrayList<IntersectionOption> singleIntersections = corner.getSingleIntersections();
 
+        // sort in the increasing order of letter frequencies
+        letterRarity.sort(singleIntersections);
+
+        for(IntersectionOption singleIntersection : singleIntersections){
+
+            // single intersections pile up across the scan, some of them may have been placed since
+            if(singleIntersection.crossing.placed){
+                continue;
             }
 
+            // place them if possible
+            if(isPlacementOfWordAllowed(
+                    singleIntersection.crossing,
+                    IntersectionOption.projectedRow(singleIntersection.source,
+                            singleIntersection.sourceIndex,singleIntersection.crossingIndex),
+                    IntersectionOption.projectedCol(singleIntersection.source,
+                            singleIntersection.sourceIndex,singleIntersection.crossingIndex),
+                    !singleIntersection.source.vertical)){
+                LinkedList<Corner> cornerStack = singleIntersection.placeCrossingWord(wordList);
+                generatedCorners.addAll(cornerStack);
+                wordsPlaced++;
+                break;
+            }
+        }
+    }
+
+    /**
+     * Places the words of the list with a {@link BacktrackingSearch} for the largest set of words joined to one
+     * another, then places whatever the search left out the greedy way. Meant for word lists of a few dozen words,
+     * where the greedy placement alone tends to leave words disjoint that could have been joined.
+     * @param timeBudgetMillis time the search may take, after which it settles for the best set found so far
+     * @return the search, for its statistics
+     */
+    public BacktrackingSearch placeWordsByBacktracking(long timeBudgetMillis) {
+        computeIntersectionOptions();
+
+        // the search places and takes back words all along, the snapshot is only given the placements it settles on
+        for(Word word : this.wordList){
+            word.snapshot = null;
         }
+        BacktrackingSearch search = new BacktrackingSearch(letterIndex, occupancy, timeBudgetMillis, wordList.size());
+        search.run();
+        this.wordsPlaced = placedWordCount();
 
+        snapshot.clear();
+        for(Word word : this.wordList){
+            word.snapshot = this.snapshot;
+            if(word.placed){
+                snapshot.add(word);
+            }
+        }
 
-        print();
+        placeWords();
+        return search;
+    }
+
+    /** Computes the intersection options of all the words in the list, once */
+    private void computeIntersectionOptions() {
+        computeIntersectionOptions(Deadline.none());
+    }
+
+    /**
+     * Computes the intersection options of the words in the list until they all have theirs or the deadline passes.
+     * Words are independent of one another, so a later call carries on with the words left.
+     * @return true if every word has its intersection options
+     */
+    private boolean computeIntersectionOptions(Deadline deadline) {
+        int index = 0;
+        for(Word word : this.wordList){
+            if(index++ < this.wordsWithOptions){
+                continue;
+            }
+            if(deadline.hasPassed()){
+                return false;
+            }
+            word.computeIntersectionOptions(this.wordList);
+            this.wordsWithOptions++;
+        }
+        return true;
     }
 
     @Override
@@ -125,17 +295,15 @@ public class Grid implements Corner.DoubleIntersectionFound{
         }
 
         // whereabouts of the crossing word coming from the source word intersection of the corner
-        Location sourceCrossingProjectedLocation = fromSourceWord.projectedLocationOfCrossingWord();
         Word sourceCrossingWord = fromSourceWord.crossing;
-        int rsc = sourceCrossingProjectedLocation.row;
-        int csc = sourceCrossingProjectedLocation.col;
+        int rsc = IntersectionOption.projectedRow(fromSourceWord.source,fromSourceWord.sourceIndex,fromSourceWord.crossingIndex);
+        int csc = IntersectionOption.projectedCol(fromSourceWord.source,fromSourceWord.sourceIndex,fromSourceWord.crossingIndex);
         boolean vsc = !fromSourceWord.source.vertical;
 
         // whereabouts of the crossing word coming from the crossing word intersection of the corner
-        Location crossingCrossingProjectedLocation = fromCrossingWord.projectedLocationOfCrossingWord();
         Word crossingCrossingWord = fromCrossingWord.crossing;
-        int rcc = crossingCrossingProjectedLocation.row;
-        int ccc = crossingCrossingProjectedLocation.col;
+        int rcc = IntersectionOption.projectedRow(fromCrossingWord.source,fromCrossingWord.sourceIndex,fromCrossingWord.crossingIndex);
+        int ccc = IntersectionOption.projectedCol(fromCrossingWord.source,fromCrossingWord.sourceIndex,fromCrossingWord.crossingIndex);
         boolean vcc = !fromCrossingWord.source.vertical;
 
         // check to see if both the words can be placed in the grid or not
@@ -157,14 +325,19 @@ public class Grid implements Corner.DoubleIntersectionFound{
      * Traverse the letter frequency in the increasing order of their frequency to look for an intersection option
      * @return a feasible intersection option preferring an uncommon letter
      */
-    private IntersectionOption findAvailableIntersectionPreferringRareLetters(){
+    IntersectionOption findAvailableIntersectionPreferringRareLetters(){
 
         IntersectionOption firstDisjointIntersectionOption = null;
 
         // traverse the letter frequency in the increasing order of their frequency
-        for(LetterFrequency letterFrequency : sortedLetterFrequencies){
+        for(int rank = 0; rank < letterFrequencies.size(); rank++){
+
+           IntersectionOption intersectionOption = letterFrequencies.findAvailableIntersectionOption(rank,this);
 
-           IntersectionOption intersectionOption = letterFrequency.findAvailableIntersectionOption(this);
+           // all the occurrences of this letter are placed, or the only unplaced ones are in the same word
+           if(intersectionOption==null){
+               continue;
+           }
 
             // Disjoint intersection options can be placed freely in the grid because both words are unplaced
            if(!intersectionOption.source.placed && firstDisjointIntersectionOption==null){
@@ -227,29 +400,18 @@ public class Grid implements Corner.DoubleIntersectionFound{
     }
 
     /**
-     * Counts and keeps track of the frequency of each alphabet in the word list,
-     * sorts them and makes them addressable by index
+     * Keeps track of the frequency of each letter in the word list and sorts them. Frequencies are counted by the
+     * letter index already, any letter of any alphabet is included.
      */
-    private void computeAndSortLetterFrequencies(){
-
-        // we are only doing it for each (capital) alphabet, case can be made for outer characters
-        for(char alphabet = 'A';alphabet<='Z';alphabet++){
-
-            LetterFrequency letterFrequency = new LetterFrequency(alphabet);
-            sortedLetterFrequencies.add(letterFrequency);
+    void computeAndSortLetterFrequencies(){
 
-            // check for frequency of this alphabet
-            for(Word word: wordList){
-                letterFrequency.addToCountIfLetterIsPresent(word);
-            }
+        letterFrequencies = new LetterFrequencies(letterIndex, wordList);
+        for(Word word : wordList){
+            word.letterFrequencies = letterFrequencies;
         }
 
-        Collections.sort(sortedLetterFrequencies);
-
-        // assign the sorted list to correct pointers so that they these letter frequencies are addressable by index
-        for(LetterFrequency letterFrequency : sortedLetterFrequencies){
-            letterFrequencyPointers.add(letterFrequency.letter-'A',letterFrequency);
-        }
+        // ranks of all the letters for sorting single intersections, counted by the letter index already
+        letterRarity = new LetterRarity(letterIndex, false);
     }
 
     /**
@@ -258,10 +420,19 @@ public class Grid implements Corner.DoubleIntersectionFound{
      * suitably fills the deficient dimension of the growing boundaries of this grid
      * @param disjointIntersectionOption an intersection option with both words unplaced
      */
-    private void placeDisjoint(IntersectionOption disjointIntersectionOption){
+    void placeDisjoint(IntersectionOption disjointIntersectionOption){
 
         // find out(amongst placed words) the words that are touching boundaries of the grid
         WordsOnBoundary wordsOnBoundary = new WordsOnBoundary();
+
+        // the very first words of the grid start at the origin
+        if(wordsOnBoundary.touchingTop==null){
+            disjointIntersectionOption.source.placeAt(0,0,true);
+            generatedCorners.addAll(disjointIntersectionOption.placeCrossingWord(this.wordList));
+            wordsPlaced += 2;
+            return;
+        }
+
         Word touchingTop = wordsOnBoundary.touchingTop;
         Word touchingRight = wordsOnBoundary.touchingRight;
         Word touchingBottom = wordsOnBoundary.touchingBottom;
@@ -293,32 +464,23 @@ public class Grid implements Corner.DoubleIntersectionFound{
 
         // place crossing word and push corners
         LinkedList<Corner> cornerStack = disjointIntersectionOption.placeCrossingWord(this.wordList);// TODO direction preference
-        pushEntireStack(cornerStack);
+        generatedCorners.addAll(cornerStack);
         wordsPlaced += 2;
 
     }
 
-    /**
-     * Pushes argument stack in order onto the generated corner stack such that their order is retained
-     * @param stack a stack of corners with a presumed order
-     */
-    private void pushEntireStack(LinkedList<Corner> stack){
+    void placeDisjoint(Word word){
 
-        // traverse this stack in reverse order to get the bottom of the stack first
-        Iterator<Corner> reverseOrder = stack.descendingIterator();
-        while(reverseOrder.hasNext()){
+        // find out(amongst placed words) the words that are touching boundaries of the grid
+        WordsOnBoundary wordsOnBoundary = new WordsOnBoundary();
 
-            //pop from argument and push to generated corner
-            Corner each = reverseOrder.next();
-            generatedCorners.push(each);
+        // the very first word of the grid starts at the origin
+        if(wordsOnBoundary.touchingTop==null){
+            word.placeAt(0,0,false);
+            wordsPlaced++;
+            return;
         }
-    }
 
-
-    private void placeDisjoint(Word word){
-
-        // find out(amongst placed words) the words that are touching boundaries of the grid
-        WordsOnBoundary wordsOnBoundary = new WordsOnBoundary();
         Word touchingTop = wordsOnBoundary.touchingTop;
         Word touchingLeft = wordsOnBoundary.touchingLeft;
 
@@ -333,7 +495,7 @@ public class Grid implements Corner.DoubleIntersectionFound{
 
         }else{
             // place one column before the leftmost word but laid vertically such that it is center aligned
-            word.placeAt(wordsOnBoundary.centerRow()-word.name.length()/2,touchingLeft.row-2,true);
+            word.placeAt(wordsOnBoundary.centerRow()-word.name.length()/2,touchingLeft.col-2,true);
         }
 
         wordsPlaced++;
@@ -384,113 +546,17 @@ public class Grid implements Corner.DoubleIntersectionFound{
 
     /**
      * Checks if the word to place actually is possible given the current status of the word list.
-     * This does not place the word.
+     * This does not place the word. The check is answered by the occupancy of the grid, so it costs as much as the
+     * length of the word to place regardless of how many words are already placed.
      *
-     * @param wordToPlace           the word to place
+     * @param wordToPlace           the word to place (assumed to be unplaced)
      * @param r                     row
      * @param c                     column
      * @param wordToPlaceIsVertical weather the word is vertical or horizontal
      * @return true if it is possible, false otherwise
      */
     public boolean isPlacementOfWordAllowed(Word wordToPlace, int r, int c, boolean wordToPlaceIsVertical) {
-
-        //check linearly against the word list
-        //if any word is intersecting with word to place or not
-        for (Word word : wordList) {
-
-            boolean placementAllowed = true;
-
-            //skip this word if it is same as the word to place
-            // or word is not placed
-            if ((word == wordToPlace) || (!word.placed)) {
-                continue;
-            }
-
-
-            if (word.vertical && wordToPlaceIsVertical) { //both words are vertical
-
-                //check for same column and then coinciding of the words
-                if (word.col == c) {
-                    placementAllowed = !isCoinciding(word, word.row, wordToPlace, r);
-                }
-            }
-            else if (word.vertical && !wordToPlaceIsVertical) { // only word to place is horizontal
-
-                placementAllowed = intersectionAllowed(wordToPlace, word, word.col - c, word.row - r);
-            }
-            else if (!word.vertical && wordToPlaceIsVertical) { // only word to place is vertical
-
-                placementAllowed = intersectionAllowed(wordToPlace, word, word.row - r, word.col - c);
-            }
-            else { // both words horizontal
-
-                //check for same row and then coinciding of the words
-                if (word.row == r) {
-                    placementAllowed = !isCoinciding(word, word.col, wordToPlace, c);
-                }
-            }
-
-            if (!placementAllowed || word.willAdjacentlyTouch(wordToPlace,r,c,wordToPlaceIsVertical)) {
-                return false;
-            }
-
-        }
-        return true;
-    }
-
-    /**
-     * Checks if two parallel words coincide given their initial starting position. Coincidence also occurs if the
-     * words follow immediately in continuation.
-     * @param word1 first word
-     * @param word1Start starting position of the first word
-     * @param word2 second word
-     * @param word2Start starting position of the second word
-     * @return true if the words coincide, false otherwise
-     */
-    private boolean isCoinciding(Word word1, int word1Start, Word word2, int word2Start) {
-        if (word1Start < word2Start) {
-            return !((word1Start + word1.name.length() - 1) < (word2Start - 1));
-        } else if (word2Start < word1Start) {
-            return !((word2Start + word2.name.length() - 1) < (word1Start - 1));
-        } else {
-            return true;
-        }
-    }
-
-    /**
-     * Checks if intersection of two perpendicular words is allowed given their relative positioning, which is
-     * possible if the intersecting point has a common letter or there is no intersection
-     *
-     * @param base                the fixed word of the intersection
-     * @param perpendicular       the word whose relative coordinates to the base are given
-     * @param relativeDisplacementFromBase distance along the start of the base word towards the perpendicular
-     * @param relativeDisplacementFromPerpendicular distance of the start of the perpendicular word from the base.
-     *                                             Because of relative positioning, this value can also be negative
-     * @return true if there is common letter or no intersection, false otherwise
-     */
-    private boolean intersectionAllowed(Word base, Word perpendicular, int relativeDisplacementFromBase,
-                                        int relativeDisplacementFromPerpendicular) {
-
-        boolean perpendicularCrossingBase =
-                relativeDisplacementFromBase >= 0 &&
-                (base.name.length() - relativeDisplacementFromBase) > 0;
-
-        boolean baseCrossingPerpendicular =
-                relativeDisplacementFromPerpendicular <= 0 &&
-                (perpendicular.name.length() - Math.abs(relativeDisplacementFromPerpendicular)) > 0;
-
-        //check if there is actually an intersection
-        boolean intersectionExists = perpendicularCrossingBase && baseCrossingPerpendicular;
-
-        if (intersectionExists) {
-            //find the letter for both the words
-            char letterAlongBase = base.name.charAt(relativeDisplacementFromBase);
-            int perpendicularLetterIndex = Math.abs(relativeDisplacementFromPerpendicular);
-            char letterAlongPerpendicular = perpendicular.name.charAt(perpendicularLetterIndex);
-            return Character.toUpperCase(letterAlongBase) == Character.toUpperCase(letterAlongPerpendicular);
-        } else {
-            return true;
-        }
+        return occupancy.isPlacementAllowed(wordToPlace.name, r, c, wordToPlaceIsVertical);
     }
 
     /**
@@ -519,116 +585,122 @@ public class Grid implements Corner.DoubleIntersectionFound{
         for (Word word : wordList) {
             word.shiftBy(-minRow, -minCol);
         }
-    }
-
-    /**
-     * Prints the status of the grid by traversing each word and placing its characters in a square grid
-     */
-    private void print() {
-
-        System.out.println("Grid:");
-
-        //find the min row and col values.
-        int minRow = 99999;
-        int minCol = 99999;
+        snapshot.shiftBy(-minRow, -minCol);
 
-        //also find the max row and col values.
-        int maxRow = -99999;
-        int maxCol = -99999;
-
-        for (Word word : this.wordList) {
+        // cells have moved, so the occupancy is rebuilt from the shifted words
+        occupancy.clear();
+        for (Word word : wordList) {
+            if (word.placed) {
+                occupancy.add(word);
+            }
+        }
+    }
 
-            if(word.placed){
-                if (word.row < minRow) {
-                    minRow = word.row;
-                }
+    /** @return number of words placed in the grid */
+    public int placedWordCount() {
+        int count = 0;
+        for (Word word : wordList) {
+            if (word.placed) {
+                count++;
+            }
+        }
+        return count;
+    }
 
-                if (word.col < minCol) {
-                    minCol = word.col;
-                }
+    /** @return area of the smallest rectangle enclosing all the placed words, 0 if nothing is placed */
+    public int boundingArea() {
+        return snapshot.height() * snapshot.width();
+    }
 
-                // for max row and column find the end of the word
+    /** @return fraction of the bounding area that holds a letter, 0 if nothing is placed */
+    public double density() {
+        int area = boundingArea();
+        return area == 0 ? 0 : (double) occupancy.letterCount() / area;
+    }
 
-                if(word.vertical){
-                    if (word.row + word.name.length() > maxRow) {
-                        maxRow = word.row + word.name.length();
-                    }
+    /**
+     * Counts the groups of placed words that are connected to one another through crossings. A fully joint grid is a
+     * single cluster, every disjoint placement adds one more.
+     * @return number of clusters, 0 if nothing is placed
+     */
+    public int clusterCount() {
 
-                    if (word.col > maxCol) {
-                        maxCol = word.col;
-                    }
-                }else{
-                    if (word.row > maxRow) {
-                        maxRow = word.row;
-                    }
+        // union find over word ids
+        int[] parent = new int[wordList.size()];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
 
-                    if (word.col + word.name.length() > maxCol) {
-                        maxCol = word.col + word.name.length();
-                    }
+        // horizontal words are remembered by their cells, vertical words crossing those cells join their cluster
+        Map<Long, Integer> horizontalCells = new HashMap<>();
+        for (Word word : wordList) {
+            if (word.placed && !word.vertical) {
+                for (int i = 0; i < word.name.length(); i++) {
+                    horizontalCells.put(Occupancy.key(word.row, word.col + i), word.id);
                 }
             }
-
         }
-
-
-        int height = Math.abs(maxRow - minRow);
-        int width = Math.abs(maxCol - minCol);
-
-        int side = height > width ? height : width;
-
-        char[][] squareGrid = buildEmptySquareGridForCurrentPlacement(side);
-
-        // place words in this square grid
-        for (Word word : this.wordList) {
-            if (word.placed) {
-                int length = word.name.length();
-                for (int i = 0; i < length; i++) {
-
-                    // holds index location of the characters in the word grid
-                    int row, col;
-                    if (word.vertical) {
-                        //place each character in the same column
-                        row = Math.abs(word.row - minRow) + i;
-                        col = Math.abs(word.col - minCol);
-                    } else {
-                        //place each character in the same row
-                        row = Math.abs(word.row - minRow);
-                        col = Math.abs(word.col - minCol) + i;
+        for (Word word : wordList) {
+            if (word.placed && word.vertical) {
+                for (int i = 0; i < word.name.length(); i++) {
+                    Integer crossing = horizontalCells.get(Occupancy.key(word.row + i, word.col));
+                    if (crossing != null) {
+                        parent[root(parent, word.id)] = root(parent, crossing);
                     }
-
-                    // place this character at the identified spot
-                    squareGrid[row][col] = word.name.charAt(i);
                 }
             }
         }
 
-        // print this 2d char array
-        print(squareGrid);
+        int clusters = 0;
+        for (Word word : wordList) {
+            if (word.placed && root(parent, word.id) == word.id) {
+                clusters++;
+            }
+        }
+        return clusters;
     }
 
-    private void print(char[][] grid) {
-        for (int i = 0; i < grid.length; i++) {
-            for (int j = 0; j < grid[i].length; j++) {
-                System.out.print(grid[i][j] + " ");
-            }
-            System.out.println("");
+    private static int root(int[] parent, int id) {
+        while (parent[id] != id) {
+            parent[id] = parent[parent[id]];
+            id = parent[id];
         }
+        return id;
     }
 
-    private char[][] buildEmptySquareGridForCurrentPlacement(int side) {
+    /**
+     * Prints the smallest rectangle enclosing the placed words, read off the snapshot of the grid, see
+     * {@link GridSnapshot#writeTo(Writer)}
+     */
+    public void print() {
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out), 1 << 16);
+        try {
+            print(out);
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-        // find the length and the width of the grid and b/w the maximum of two, use that as width of grid
-//        int side = sideOfGrid();
+    /**
+     * Writes the grid the same way as {@link #print()} does, to any writer
+     * @param out where the grid is written to, not flushed
+     * @throws IOException if the writer fails
+     */
+    public void print(Writer out) throws IOException {
+        out.write("Grid:");
+        out.write(System.lineSeparator());
+        snapshot.writeTo(out);
+    }
 
-        // initialize all values of the square grid with letter '0'
-        char[][] square = new char[side][side];
+    /** @return the letters of the placed words, kept up to date as words get placed */
+    public GridSnapshot snapshot() {
+        return snapshot;
+    }
 
-        for (int i = 0; i < side; i++) {
-            for (int j = 0; j < side; j++) {
-                square[i][j] = '0';
-            }
-        }
-        return square;
+    /** @return the word list of this grid, placed and unplaced words alike */
+    List<Word> words() {
+        return wordList;
     }
 
     private int nextCircularIndex(int current,int length){
@@ -696,19 +768,6 @@ public class Grid implements Corner.DoubleIntersectionFound{
         }
     }
 
-    private class RareLettersFirst implements Comparator<IntersectionOption>{
-
-        @Override
-        public int compare(IntersectionOption o1, IntersectionOption o2) {
-            int o1LetterIndex = letterFrequencyPointers.indexOf(o1.letter()-'A');
-            int o1Occurrences = sortedLetterFrequencies.get(o1LetterIndex).getFrequency();
-            int o2LetterIndex = letterFrequencyPointers.indexOf(o2.letter()-'A');
-            int o2Occurrences = sortedLetterFrequencies.get(o2LetterIndex).getFrequency();
-
-            return o1Occurrences - o2Occurrences;
-        }
-    }
-
     private class WordsOnBoundary{
 
         Word touchingTop = null;
@@ -721,6 +780,10 @@ public class Grid implements Corner.DoubleIntersectionFound{
             // find out(amongst placed words) the words that are touching boundaries of the grid
             for(Word word : wordList){
 
+                if(!word.placed){
+                    continue;
+                }
+
                 if(touchingTop == null || word.row<touchingTop.row){
                     touchingTop = word;
                 }
@@ -0,0 +1,49 @@
+package com.nikhil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Writes a grid, its numbering and its clues in some file format. Exporters stream straight to the output they are
+ * given without building a document first, and keep no state between grids, so one exporter may serve any number of
+ * grids from any number of threads.
+ * <p>
+ * The exporters of this package are listed by {@link GridExporters}, along with any exporter registered as a service
+ * provider of this interface (see {@link java.util.ServiceLoader}).
+ */
+public interface GridExporter {
+
+    /** @return name the format goes by, such as "ipuz" */
+    String formatName();
+
+    /** @return extension of the files of this format, without the dot */
+    String fileExtension();
+
+    /** @return media type of this format, for files served over HTTP */
+    default String contentType() {
+        return "application/octet-stream";
+    }
+
+    /**
+     * Writes a numbered grid. The output is flushed, not closed
+     * @param numbering numbering of the grid to write
+     * @param out where the grid is written to
+     * @throws IOException if the output fails, or if the grid doesn't fit in the format
+     */
+    void export(ClueNumbering numbering, OutputStream out) throws IOException;
+
+    /**
+     * Numbers a grid and writes it, see {@link #export(ClueNumbering, OutputStream)}. A grid exported to several
+     * formats is better numbered once.
+     */
+    default void export(Grid grid, OutputStream out) throws IOException {
+        export(new ClueNumbering(grid), out);
+    }
+
+    /** Writes a numbered grid to a channel, see {@link #export(ClueNumbering, OutputStream)} */
+    default void export(ClueNumbering numbering, WritableByteChannel channel) throws IOException {
+        export(numbering, Channels.newOutputStream(channel));
+    }
+}
@@ -0,0 +1,53 @@
+package com.nikhil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * The exporters at hand: the ones of this package for ipuz, SVG and .puz, followed by the ones registered as service
+ * providers of {@link GridExporter} on the class path. The service providers are looked up once, the first time an
+ * exporter is asked for, and the same exporters are handed out from then on, to any number of threads.
+ */
+public final class GridExporters {
+
+    private GridExporters() {
+    }
+
+    /** Holds the exporters, loaded when the class is first used, which the JVM does once and for every thread */
+    private static final class Loaded {
+        static final List<GridExporter> EXPORTERS = load();
+    }
+
+    /** @return every exporter at hand, the ones of this package first */
+    public static List<GridExporter> available(){
+        return Loaded.EXPORTERS;
+    }
+
+    private static List<GridExporter> load(){
+        List<GridExporter> exporters = new ArrayList<>();
+        exporters.add(new IpuzExporter());
+        exporters.add(new SvgExporter());
+        exporters.add(new PuzExporter());
+        for (GridExporter exporter : ServiceLoader.load(GridExporter.class)) {
+            exporters.add(exporter);
+        }
+        return Collections.unmodifiableList(exporters);
+    }
+
+    /**
+     * Looks an exporter up by the name of its format or by its file extension, ignoring case
+     * @param name name of the format, or extension of its files
+     * @return the first exporter at hand going by that name
+     * @throws IllegalArgumentException if there is no such exporter
+     */
+    public static GridExporter forName(String name){
+        for (GridExporter exporter : available()) {
+            if(exporter.formatName().equalsIgnoreCase(name) || exporter.fileExtension().equalsIgnoreCase(name)){
+                return exporter;
+            }
+        }
+        throw new IllegalArgumentException("No exporter for " + name);
+    }
+}
@@ -0,0 +1,117 @@
+package com.nikhil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Generates a number of grids from the same words independently of one another and keeps the best one. Every attempt
+ * gets its own word list from a shared {@link Dictionary}, so attempts can run in parallel on a {@link ForkJoinPool}.
+ * Attempts differ in the order of their word list, which decides the tie-breaks of the greedy placement.
+ */
+public class GridGenerator {
+
+    private final Dictionary dictionary;
+    private final int attempts;
+    private final GridScore score;
+    private final long seed;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a generator running its attempts on the common pool
+     * @param words the words to place. These are only copied, never placed themselves
+     * @param attempts number of independent placement attempts
+     * @param score criteria picking the best grid amongst the attempts
+     */
+    public GridGenerator(List<Word> words, int attempts, GridScore score) {
+        this(new Dictionary(words), attempts, score, System.nanoTime(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a generator running its attempts on the common pool
+     * @param dictionary the words to place
+     * @param attempts number of independent placement attempts
+     * @param score criteria picking the best grid amongst the attempts
+     */
+    public GridGenerator(Dictionary dictionary, int attempts, GridScore score) {
+        this(dictionary, attempts, score, System.nanoTime(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param words the words to place. These are only copied, never placed themselves
+     * @param attempts number of independent placement attempts
+     * @param score criteria picking the best grid amongst the attempts
+     * @param seed seed from which the ordering of each attempt is derived
+     * @param pool pool the attempts run on
+     */
+    public GridGenerator(List<Word> words, int attempts, GridScore score, long seed, ForkJoinPool pool) {
+        this(new Dictionary(words), attempts, score, seed, pool);
+    }
+
+    /**
+     * @param dictionary the words to place
+     * @param attempts number of independent placement attempts
+     * @param score criteria picking the best grid amongst the attempts
+     * @param seed seed from which the ordering of each attempt is derived
+     * @param pool pool the attempts run on
+     */
+    public GridGenerator(Dictionary dictionary, int attempts, GridScore score, long seed, ForkJoinPool pool) {
+        if(attempts < 1){
+            throw new IllegalArgumentException("At least one attempt is needed to generate a grid");
+        }
+        this.dictionary = dictionary;
+        this.attempts = attempts;
+        this.score = score;
+        this.seed = seed;
+        this.pool = pool;
+    }
+
+    /**
+     * Runs all the attempts and waits for them to finish
+     * @return the best grid according to the score of this generator
+     */
+    public Grid generate(){
+
+        List<ForkJoinTask<Grid>> tasks = new ArrayList<>(attempts);
+        for (int attempt = 0; attempt < attempts; attempt++) {
+            final int number = attempt;
+            tasks.add(pool.submit(() -> attempt(number)));
+        }
+
+        Grid best = null;
+        for (ForkJoinTask<Grid> task : tasks) {
+            Grid grid = task.join();
+            if(best == null || score.compare(grid, best) < 0){
+                best = grid;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Places a fresh word list from the dictionary. The first attempt keeps the words in dictionary order, the rest
+     * shuffle them with a seed of their own
+     * @param number the number of the attempt
+     * @return grid with all the words placed
+     */
+    Grid attempt(int number){
+        Random ordering = number > 0 ? new Random(seedOf(number)) : null;
+        Grid grid = new Grid(dictionary.newWordList(ordering));
+        grid.placeWords();
+        return grid;
+    }
+
+    /**
+     * Seed of an attempt, with the bits of the generator seed and the attempt number mixed together. {@link Random}
+     * seeded with consecutive numbers draws the same first few numbers, so the shuffles of consecutive attempts
+     * would all end the same way, and the tie-breaks would be the same in every attempt
+     */
+    private long seedOf(int number){
+        long mixed = seed + number * 0x9E3779B97F4A7C15L;
+        mixed = (mixed ^ (mixed >>> 30)) * 0xBF58476D1CE4E5B9L;
+        mixed = (mixed ^ (mixed >>> 27)) * 0x94D049BB133111EBL;
+        return mixed ^ (mixed >>> 31);
+    }
+}
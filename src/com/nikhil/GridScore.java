@@ -0,0 +1,35 @@
+package com.nikhil;
+
+import java.util.Comparator;
+
+/**
+ * Ways of ranking generated grids against one another. Grids are ordered best first, so the best of a number of
+ * grids is the minimum according to the score.
+ */
+public enum GridScore implements Comparator<Grid> {
+
+    /** Smaller area of the enclosing rectangle is better */
+    AREA {
+        @Override
+        public int compare(Grid grid1, Grid grid2) {
+            return Integer.compare(grid1.boundingArea(), grid2.boundingArea());
+        }
+    },
+
+    /** Larger share of the enclosing rectangle filled with letters is better */
+    DENSITY {
+        @Override
+        public int compare(Grid grid1, Grid grid2) {
+            return Double.compare(grid2.density(), grid1.density());
+        }
+    },
+
+    /** Fewer disjoint groups of words is better, ties are broken by the smaller area */
+    CLUSTERS {
+        @Override
+        public int compare(Grid grid1, Grid grid2) {
+            int byClusters = Integer.compare(grid1.clusterCount(), grid2.clusterCount());
+            return byClusters != 0 ? byClusters : AREA.compare(grid1, grid2);
+        }
+    }
+}
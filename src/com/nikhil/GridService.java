@@ -0,0 +1,227 @@
+package com.nikhil;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Generates grids over HTTP, so that a long running JVM serves any number of puzzles. A single endpoint, /grid, places
+ * either the words sent in the body of a POST request, as a CSV or TSV word list (see {@link WordListScanner}), or a
+ * sample of one of the dictionaries of the service:
+ * <ul>
+ *     <li>dictionary: id of the dictionary to sample the words from, instead of a word list</li>
+ *     <li>words: number of words to sample, 20 by default</li>
+ *     <li>seed: seed of the sample, the same seed giving the same words. Random by default</li>
+ *     <li>format: format of the response (see {@link GridExporters}), ipuz by default</li>
+ *     <li>timeout: milliseconds the placement may take, after which the grid is answered with the words placed so
+ *     far. 10 seconds by default, and never more than a minute, so that no request holds on to a thread for good</li>
+ * </ul>
+ * The X-Placed-Words and X-Unplaced-Words headers of a response tell how far the placement got.
+ * Dictionaries are loaded once, before the service starts, and only ever read from then on, so every request shares
+ * them. Every request gets a word list of its own. Requests are handled on virtual threads, one per request, when the
+ * JVM has them (Java 21 on), and on a fixed pool of threads otherwise.
+ */
+public class GridService {
+
+    /** Largest word list accepted in a request */
+    static final int MAX_BODY_SIZE = 1 << 20;
+    private static final int DEFAULT_WORDS = 20;
+    /** Time a placement may take when the request doesn't say */
+    static final long DEFAULT_TIMEOUT_MILLIS = 10_000;
+    /** Longest time a placement may take, whatever the request says */
+    static final long MAX_TIMEOUT_MILLIS = 60_000;
+    /** Connections waiting to be accepted, enough for hundreds of clients connecting at once */
+    private static final int BACKLOG = 1024;
+
+    private final Map<String, Dictionary> dictionaries;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /** @param dictionaries dictionaries to sample from, by id. None of them may be modified once given */
+    public GridService(Map<String, Dictionary> dictionaries) {
+        this.dictionaries = Collections.unmodifiableMap(new HashMap<>(dictionaries));
+    }
+
+    /**
+     * Starts serving requests
+     * @param address address to listen on, port 0 picking any free port
+     * @throws IOException if the address can't be listened on
+     */
+    public void start(InetSocketAddress address) throws IOException {
+        server = HttpServer.create(address, BACKLOG);
+        executor = newRequestExecutor();
+        server.setExecutor(executor);
+        server.createContext("/grid", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                handleGrid(exchange);
+            }
+        });
+        server.start();
+    }
+
+    /** @return port the service listens on */
+    public int port(){
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops serving requests
+     * @param delaySeconds time given to the requests being handled to finish
+     */
+    public void stop(int delaySeconds){
+        server.stop(delaySeconds);
+        executor.shutdown();
+    }
+
+    /**
+     * Makes the executor handling the requests: one virtual thread per request if the JVM has virtual threads, which
+     * is looked up by reflection as this code is built for older JVMs too, or a pool of two threads per core otherwise
+     */
+    static ExecutorService newRequestExecutor(){
+        try {
+            Method perTask = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) perTask.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(2 * Runtime.getRuntime().availableProcessors());
+        }
+    }
+
+    private void handleGrid(HttpExchange exchange) throws IOException {
+        try {
+            Map<String, String> parameters = parameters(exchange.getRequestURI().getRawQuery());
+            GridExporter exporter = GridExporters.forName(value(parameters, "format", "ipuz"));
+
+            LinkedList<Word> wordList;
+            String dictionaryId = parameters.get("dictionary");
+            if(dictionaryId != null){
+                Dictionary dictionary = dictionaries.get(dictionaryId);
+                if(dictionary == null){
+                    respond(exchange, 404, "No dictionary " + dictionaryId);
+                    return;
+                }
+                int words = Integer.parseInt(value(parameters, "words", Integer.toString(DEFAULT_WORDS)));
+                String seed = parameters.get("seed");
+                Random random = seed == null ? new Random() : new Random(Long.parseLong(seed));
+                wordList = dictionary.sample(words, random);
+            }else if(exchange.getRequestMethod().equals("POST")){
+                wordList = readWordList(exchange);
+                if(wordList == null){
+                    respond(exchange, 413, "Word lists are limited to " + MAX_BODY_SIZE + " bytes");
+                    return;
+                }
+            }else{
+                respond(exchange, 400, "Either POST a word list or name a dictionary");
+                return;
+            }
+            if(wordList.isEmpty()){
+                respond(exchange, 400, "No words to place");
+                return;
+            }
+
+            long timeout = Long.parseLong(value(parameters, "timeout", Long.toString(DEFAULT_TIMEOUT_MILLIS)));
+            Deadline deadline = Deadline.after(Math.min(timeout, MAX_TIMEOUT_MILLIS));
+            Grid grid = new Grid(wordList);
+            PlacementResult result = grid.placeWords(deadline);
+
+            ByteArrayOutputStream body = new ByteArrayOutputStream(4096);
+            exporter.export(grid, body);
+            exchange.getResponseHeaders().set("Content-Type", exporter.contentType());
+            exchange.getResponseHeaders().set("X-Placed-Words", Integer.toString(result.placedWords()));
+            exchange.getResponseHeaders().set("X-Unplaced-Words", Integer.toString(result.unplacedWords()));
+            exchange.sendResponseHeaders(200, body.size());
+            try (OutputStream out = exchange.getResponseBody()) {
+                body.writeTo(out);
+            }
+        } catch (IllegalArgumentException | IOException e) {
+            // unknown format, numbers that are not numbers, too many words or malformed word lists. Once the response
+            // is under way, the client is gone and there is no one left to tell
+            if(exchange.getResponseCode() < 0){
+                respond(exchange, 400, e.getMessage());
+            }
+        } catch (RuntimeException e) {
+            if(exchange.getResponseCode() < 0){
+                respond(exchange, 500, String.valueOf(e));
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /** @return the words of the word list in the body of a request, null if the body is too large */
+    private static LinkedList<Word> readWordList(HttpExchange exchange) throws IOException {
+        byte[] body = new byte[8192];
+        int length = 0;
+        try (InputStream in = exchange.getRequestBody()) {
+            for (int read; (read = in.read(body, length, body.length - length)) > 0; ) {
+                length += read;
+                if(length == body.length){
+                    if(length == MAX_BODY_SIZE){
+                        return in.read() < 0 ? wordList(body, length) : null;
+                    }
+                    body = Arrays.copyOf(body, Math.min(2 * length, MAX_BODY_SIZE));
+                }
+            }
+        }
+        return wordList(body, length);
+    }
+
+    private static LinkedList<Word> wordList(byte[] body, int length) throws IOException {
+        final LinkedList<Word> wordList = new LinkedList<>();
+        WordListScanner.scan(ByteBuffer.wrap(body, 0, length), "the request", new WordListScanner.WordFound() {
+            @Override
+            public void onWord(String name, String description) {
+                wordList.add(new Word(name, description));
+            }
+        });
+        return wordList;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String message) throws IOException {
+        byte[] body = String.valueOf(message).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static Map<String, String> parameters(String query) throws UnsupportedEncodingException {
+        Map<String, String> parameters = new HashMap<>();
+        if(query == null){
+            return parameters;
+        }
+        for (String pair : query.split("&")) {
+            int equals = pair.indexOf('=');
+            if(equals > 0){
+                parameters.put(URLDecoder.decode(pair.substring(0, equals), "UTF-8"),
+                        URLDecoder.decode(pair.substring(equals + 1), "UTF-8"));
+            }
+        }
+        return parameters;
+    }
+
+    private static String value(Map<String, String> parameters, String name, String defaultValue){
+        String value = parameters.get(name);
+        return value == null ? defaultValue : value;
+    }
+}
@@ -0,0 +1,172 @@
+package com.nikhil;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Letters of the placed words laid out cell by cell, kept up to date as words get placed so that rendering the grid
+ * doesn't have to go through the word list again. Cells are a rectangular row major array whose first cell sits at
+ * an origin that may be anywhere in the grid, words placed outside of it grow the array by about half its size in the
+ * direction they stick out. The bounds of the letters written so far are tracked along the way.
+ * <p>
+ * A snapshot only ever gains letters, taking a placement back means clearing it and adding the placed words again.
+ */
+public class GridSnapshot {
+
+    /** Cells added around the letters whenever the array grows, so that the next few words fit in without growing */
+    private static final int MIN_SLACK = 8;
+
+    private char[] cells = new char[0];
+    private int originRow = 0;
+    private int originCol = 0;
+    private int rows = 0;
+    private int cols = 0;
+
+    private int minRow = Integer.MAX_VALUE;
+    private int minCol = Integer.MAX_VALUE;
+    private int maxRow = Integer.MIN_VALUE;
+    private int maxCol = Integer.MIN_VALUE;
+
+    /**
+     * Writes the letters of a placed word into their cells
+     * @param word a placed word with defined coordinates and alignment
+     */
+    public void add(Word word){
+        int length = word.name.length();
+        int lastRow = word.vertical ? word.row + length - 1 : word.row;
+        int lastCol = word.vertical ? word.col : word.col + length - 1;
+        ensureCovers(word.row, word.col, lastRow, lastCol);
+
+        int start = (word.row - originRow) * cols + (word.col - originCol);
+        int step = word.vertical ? cols : 1;
+        for (int i = 0; i < length; i++) {
+            cells[start + i * step] = word.name.charAt(i);
+        }
+
+        minRow = Math.min(minRow, word.row);
+        minCol = Math.min(minCol, word.col);
+        maxRow = Math.max(maxRow, lastRow);
+        maxCol = Math.max(maxCol, lastCol);
+    }
+
+    /** Empties every cell, keeping the array for the words added next */
+    public void clear(){
+        if(!isEmpty()){
+            Arrays.fill(cells, (char) 0);
+        }
+        minRow = Integer.MAX_VALUE;
+        minCol = Integer.MAX_VALUE;
+        maxRow = Integer.MIN_VALUE;
+        maxCol = Integer.MIN_VALUE;
+    }
+
+    /** Moves every letter by the same amount, the same way {@link Word#shiftBy(int, int)} moves a word */
+    public void shiftBy(int dRow, int dCol){
+        originRow += dRow;
+        originCol += dCol;
+        if(!isEmpty()){
+            minRow += dRow;
+            minCol += dCol;
+            maxRow += dRow;
+            maxCol += dCol;
+        }
+    }
+
+    /** @return true if no letter was added since this snapshot was made or last cleared */
+    public boolean isEmpty(){
+        return minRow == Integer.MAX_VALUE;
+    }
+
+    /** @return letter at the given location, 0 if the cell is empty */
+    public char letterAt(int row, int col){
+        int r = row - originRow;
+        int c = col - originCol;
+        if(r < 0 || c < 0 || r >= rows || c >= cols){
+            return 0;
+        }
+        return cells[r * cols + c];
+    }
+
+    /** @return number of rows from the topmost letter to the bottommost one, 0 if empty */
+    public int height(){
+        return isEmpty() ? 0 : maxRow - minRow + 1;
+    }
+
+    /** @return number of columns from the leftmost letter to the rightmost one, 0 if empty */
+    public int width(){
+        return isEmpty() ? 0 : maxCol - minCol + 1;
+    }
+
+    /** @return row of the topmost letter, undefined if empty */
+    public int minRow(){
+        return minRow;
+    }
+
+    /** @return column of the leftmost letter, undefined if empty */
+    public int minCol(){
+        return minCol;
+    }
+
+    /**
+     * Writes the smallest rectangle enclosing the letters, one line per row and every cell followed by a space, with
+     * '0' standing for an empty cell. Every row goes out in a single write, so the writer is best buffered.
+     * @param out where the rows are written to
+     * @throws IOException if the writer fails
+     */
+    public void writeTo(Writer out) throws IOException {
+        int width = width();
+        char[] line = new char[width * 2];
+        String lineSeparator = System.lineSeparator();
+        for (int row = minRow; row <= maxRow; row++) {
+            int offset = (row - originRow) * cols + (minCol - originCol);
+            for (int i = 0; i < width; i++) {
+                char letter = cells[offset + i];
+                line[2 * i] = letter == 0 ? '0' : letter;
+                line[2 * i + 1] = ' ';
+            }
+            out.write(line);
+            out.write(lineSeparator);
+        }
+    }
+
+    /** Grows the array, if needed, so that it covers the given rectangle(bounds included) */
+    private void ensureCovers(int fromRow, int fromCol, int toRow, int toCol){
+        if(fromRow >= originRow && fromCol >= originCol && toRow < originRow + rows && toCol < originCol + cols){
+            return;
+        }
+
+        // the new array covers the old one and the rectangle, with slack on the sides that had to grow
+        int top = rows == 0 ? fromRow : Math.min(fromRow, originRow);
+        int left = cols == 0 ? fromCol : Math.min(fromCol, originCol);
+        int bottom = rows == 0 ? toRow : Math.max(toRow, originRow + rows - 1);
+        int right = cols == 0 ? toCol : Math.max(toCol, originCol + cols - 1);
+        int rowSlack = Math.max(MIN_SLACK, (bottom - top + 1) / 2);
+        int colSlack = Math.max(MIN_SLACK, (right - left + 1) / 2);
+        if(rows == 0 || fromRow < originRow){
+            top -= rowSlack;
+        }
+        if(cols == 0 || fromCol < originCol){
+            left -= colSlack;
+        }
+        if(rows == 0 || toRow >= originRow + rows){
+            bottom += rowSlack;
+        }
+        if(cols == 0 || toCol >= originCol + cols){
+            right += colSlack;
+        }
+
+        int newRows = bottom - top + 1;
+        int newCols = right - left + 1;
+        char[] grown = new char[newRows * newCols];
+        for (int r = 0; r < rows; r++) {
+            System.arraycopy(cells, r * cols, grown, (originRow - top + r) * newCols + (originCol - left), cols);
+        }
+
+        cells = grown;
+        originRow = top;
+        originCol = left;
+        rows = newRows;
+        cols = newCols;
+    }
+}
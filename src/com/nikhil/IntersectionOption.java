@@ -19,6 +19,13 @@ public class IntersectionOption {
     /** Index of the crossing word at which the intersection is taking place */
     int crossingIndex;
 
+    /** Bits holding an index (of either word) in a packed intersection option */
+    private static final int INDEX_BITS = 8;
+    /** Bits holding a word id in a packed intersection option */
+    private static final int WORD_ID_BITS = 24;
+    private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+    private static final long WORD_ID_MASK = (1L << WORD_ID_BITS) - 1;
+
     public IntersectionOption(Word source, int sourceIndex, Word crossing, int crossingIndex) {
         this.source = source;
         this.sourceIndex = sourceIndex;
@@ -26,6 +33,92 @@ public class IntersectionOption {
         this.crossingIndex = crossingIndex;
     }
 
+    /**
+     * Packs the four fields of an intersection option in a single long so that large numbers of options can be kept
+     * in primitive arrays. Words are referred to by their id in the {@link LetterIndex} of their word list.
+     * Layout from the most significant bits: source id, source index, crossing id, crossing index.
+     */
+    public static long pack(int sourceId, int sourceIndex, int crossingId, int crossingIndex){
+        return ((long) sourceId << (INDEX_BITS + WORD_ID_BITS + INDEX_BITS)) |
+                ((long) sourceIndex << (WORD_ID_BITS + INDEX_BITS)) |
+                ((long) crossingId << INDEX_BITS) |
+                crossingIndex;
+    }
+
+    public static int sourceIdOf(long packed){
+        return (int) ((packed >>> (INDEX_BITS + WORD_ID_BITS + INDEX_BITS)) & WORD_ID_MASK);
+    }
+
+    public static int sourceIndexOf(long packed){
+        return (int) ((packed >>> (WORD_ID_BITS + INDEX_BITS)) & INDEX_MASK);
+    }
+
+    public static int crossingIdOf(long packed){
+        return (int) ((packed >>> INDEX_BITS) & WORD_ID_MASK);
+    }
+
+    public static int crossingIndexOf(long packed){
+        return (int) (packed & INDEX_MASK);
+    }
+
+    /**
+     * Creates an intersection option from its packed form
+     * @param packed the packed intersection option
+     * @param letterIndex the index which provides the words by their id
+     * @return new intersection option
+     */
+    public static IntersectionOption unpack(long packed, LetterIndex letterIndex){
+        return new IntersectionOption(
+                letterIndex.wordAt(sourceIdOf(packed)),
+                sourceIndexOf(packed),
+                letterIndex.wordAt(crossingIdOf(packed)),
+                crossingIndexOf(packed));
+    }
+
+    /** @return this intersection option packed in a long, see {@link #pack(int, int, int, int)} */
+    public long pack(){
+        return pack(source.id, sourceIndex, crossing.id, crossingIndex);
+    }
+
+    /**
+     * Row of the first letter of the crossing word, if it crosses the (placed) source word at the given indices
+     */
+    static int projectedRow(Word source, int sourceIndex, int crossingIndex){
+        return source.vertical ? source.row + sourceIndex : source.row - crossingIndex;
+    }
+
+    /**
+     * Column of the first letter of the crossing word, if it crosses the (placed) source word at the given indices
+     */
+    static int projectedCol(Word source, int sourceIndex, int crossingIndex){
+        return source.vertical ? source.col - crossingIndex : source.col + sourceIndex;
+    }
+
+    /**
+     * Intersection options are values: two options are equal if they cross the same words at the same indices, as
+     * options made afresh from their packed form are. Words themselves are compared by identity
+     */
+    @Override
+    public boolean equals(Object other) {
+        if(this == other){
+            return true;
+        }
+        if(!(other instanceof IntersectionOption)){
+            return false;
+        }
+        IntersectionOption that = (IntersectionOption) other;
+        return this.source == that.source && this.sourceIndex == that.sourceIndex &&
+                this.crossing == that.crossing && this.crossingIndex == that.crossingIndex;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = System.identityHashCode(source);
+        hash = 31 * hash + sourceIndex;
+        hash = 31 * hash + System.identityHashCode(crossing);
+        return 31 * hash + crossingIndex;
+    }
+
     @Override
     public String toString() {
         return "IntersectionOption{" +
@@ -48,56 +141,88 @@ public class IntersectionOption {
      * @return location of the intersection point if the crossing of two intersection options crosses, null otherwise.
      */
     public Location intersectsWith(IntersectionOption perpendicular){
+        long intersectionPoint = intersectionOf(
+                this.source, this.sourceIndex, this.crossing, this.crossingIndex,
+                perpendicular.source, perpendicular.sourceIndex, perpendicular.crossing, perpendicular.crossingIndex);
+        if(intersectionPoint==Location.NOWHERE){
+            return null;
+        }
+        return new Location(Location.rowOf(intersectionPoint),Location.colOf(intersectionPoint));
+    }
+
+    /**
+     * Same as {@link #intersectsWith(IntersectionOption)} for two packed intersection options, without allocating
+     * @param option a packed intersection option
+     * @param perpendicular another packed intersection option
+     * @param letterIndex the index which provides the words by their id
+     * @return packed location of the intersection point (see {@link Location#pack(int, int)}) if the crossing words
+     * of the two intersection options cross, {@link Location#NOWHERE} otherwise
+     */
+    static long intersectionOf(long option, long perpendicular, LetterIndex letterIndex){
+        return intersectionOf(
+                letterIndex.wordAt(sourceIdOf(option)), sourceIndexOf(option),
+                letterIndex.wordAt(crossingIdOf(option)), crossingIndexOf(option),
+                letterIndex.wordAt(sourceIdOf(perpendicular)), sourceIndexOf(perpendicular),
+                letterIndex.wordAt(crossingIdOf(perpendicular)), crossingIndexOf(perpendicular));
+    }
+
+    private static long intersectionOf(Word source, int sourceIndex, Word crossing, int crossingIndex,
+                                       Word otherSource, int otherSourceIndex, Word otherCrossing, int otherCrossingIndex){
 
         // if either source words is not placed, preemptively return false
-        if( !this.source.placed || !perpendicular.source.placed){
+        if( !source.placed || !otherSource.placed){
             throw new RuntimeException("One or more source words is not placed while finding intersection " +
                     "with another intersection option");
         }
 
         // return false, if source words of the two intersection options is parallel
-        if( this.source.vertical == perpendicular.source.vertical){
-            return null;
+        if( source.vertical == otherSource.vertical){
+            return Location.NOWHERE;
         }
 
         // we need to find the coordinate of the both the crossing words based on the placement of their source words
-        Location thisCrossingLocation = this.projectedLocationOfCrossingWord();
-        Location otherCrossingLocation = perpendicular.projectedLocationOfCrossingWord();
-
-        // find out the common intersection point, letter at that intersection for both the crossing words
-        Location intersectionPoint;
-        char thisCrossingWordsLetter='0';
-        char otherCrossingWordsLetter='0';
+        int thisRow = projectedRow(source, sourceIndex, crossingIndex);
+        int thisCol = projectedCol(source, sourceIndex, crossingIndex);
+        int otherRow = projectedRow(otherSource, otherSourceIndex, otherCrossingIndex);
+        int otherCol = projectedCol(otherSource, otherSourceIndex, otherCrossingIndex);
 
         // check if these crossing words mutually lie in the span of each other
         // note : For alignment of crossing word, we always check the alignment of the source word because
         // crossing word is most likely unplaced
-        if(thisCrossingLocation.containsInSpan(otherCrossingLocation,this.crossing.name.length(),!this.source.vertical) &&
-                otherCrossingLocation.containsInSpan(thisCrossingLocation,perpendicular.crossing.name.length(),!perpendicular.source.vertical)
-        ){
-            // this crossing word is vertical and the perpendicular is horizontal
-            if(!this.source.vertical){
-                intersectionPoint = new Location(otherCrossingLocation.row,thisCrossingLocation.col);
-                thisCrossingWordsLetter = this.crossing.name.charAt(Math.abs(otherCrossingLocation.row - thisCrossingLocation.row));
-                otherCrossingWordsLetter = perpendicular.crossing.name.charAt(Math.abs(thisCrossingLocation.col - otherCrossingLocation.col));
-            }
-            // perpendicular word is vertical and this crossing word is horizontal
-            else{
-                intersectionPoint = new Location(thisCrossingLocation.row,otherCrossingLocation.col);
-                thisCrossingWordsLetter = this.crossing.name.charAt(Math.abs(otherCrossingLocation.col - thisCrossingLocation.col));
-                otherCrossingWordsLetter = perpendicular.crossing.name.charAt(Math.abs(thisCrossingLocation.row - otherCrossingLocation.row));
+        int intersectionRow;
+        int intersectionCol;
+        char thisCrossingWordsLetter;
+        char otherCrossingWordsLetter;
+
+        // this crossing word is vertical and the perpendicular is horizontal
+        if(!source.vertical){
+            if(!(thisRow<=otherRow && otherRow<(thisRow+crossing.name.length()) &&
+                    otherCol<=thisCol && thisCol<(otherCol+otherCrossing.name.length()))){
+                return Location.NOWHERE;
             }
+            intersectionRow = otherRow;
+            intersectionCol = thisCol;
+            thisCrossingWordsLetter = crossing.name.charAt(otherRow - thisRow);
+            otherCrossingWordsLetter = otherCrossing.name.charAt(thisCol - otherCol);
         }
-        // no intersection
+        // perpendicular word is vertical and this crossing word is horizontal
         else{
-            intersectionPoint =null;
+            if(!(thisCol<=otherCol && otherCol<(thisCol+crossing.name.length()) &&
+                    otherRow<=thisRow && thisRow<(otherRow+otherCrossing.name.length()))){
+                return Location.NOWHERE;
+            }
+            intersectionRow = thisRow;
+            intersectionCol = otherCol;
+            thisCrossingWordsLetter = crossing.name.charAt(otherCol - thisCol);
+            otherCrossingWordsLetter = otherCrossing.name.charAt(thisRow - otherRow);
         }
 
-        if(intersectionPoint!=null && thisCrossingWordsLetter == otherCrossingWordsLetter &&
-                !intersectionPoint.touches(this.source) && !intersectionPoint.touches(perpendicular.source)){
-            return intersectionPoint;
+        if(thisCrossingWordsLetter == otherCrossingWordsLetter &&
+                !Location.touches(intersectionRow,intersectionCol,source.row,source.col,source.name.length(),source.vertical) &&
+                !Location.touches(intersectionRow,intersectionCol,otherSource.row,otherSource.col,otherSource.name.length(),otherSource.vertical)){
+            return Location.pack(intersectionRow,intersectionCol);
         }else{
-            return null;
+            return Location.NOWHERE;
         }
     }
 
@@ -108,23 +233,9 @@ public class IntersectionOption {
             throw new RuntimeException("Source word is not placed in finding projected location of crossing word");
         }
 
-        Location location = new Location();
-
-        // projected row
-        if(this.source.vertical){
-            location.row = this.source.row + this.sourceIndex;
-        }else{
-            location.row = this.source.row - this.crossingIndex;
-        }
-
-        // projected column
-        if(this.source.vertical){
-            location.col = this.source.col - this.crossingIndex;
-        }else{
-            location.col = this.source.col + this.sourceIndex;
-        }
-
-        return location;
+        return new Location(
+                projectedRow(this.source,this.sourceIndex,this.crossingIndex),
+                projectedCol(this.source,this.sourceIndex,this.crossingIndex));
     }
 
     /**
@@ -156,81 +267,82 @@ public class IntersectionOption {
      * @return A list of corners made by this intersection option.
      */
     public LinkedList<Corner> computeCorners(){
+        return computeCorners(null);
+    }
+
+    /**
+     * Finds all corners based on the alignment and placement of the source word (which is assumed to be placed)
+     * @param pool pool to take the corners from, null to make new ones
+     * @return A list of corners made by this intersection option.
+     */
+    public LinkedList<Corner> computeCorners(CornerPool pool){
         if(!source.placed){
             throw new RuntimeException("Source word is not placed while finding corners");
         }
 
         LinkedList<Corner> cornerList = new LinkedList<>();
 
-        Location projectedCrossingLocation = projectedLocationOfCrossingWord();
-        Location intersectionPoint = getIntersectionPoint();
+        int projectedCrossingRow = projectedRow(source,sourceIndex,crossingIndex);
+        int projectedCrossingCol = projectedCol(source,sourceIndex,crossingIndex);
 
         if(sourceIndex==0){ // beginning of source word
             if(crossingIndex==0){ // beginning of crossing word
 
                  if(source.vertical){
-                     Corner bottomRight = new Corner(intersectionPoint,
+                     Corner bottomRight = newCorner(pool,
                              Direction.BOTTOM_RIGHT,
                              source.row + source.name.length(),
-                             projectedCrossingLocation.col + crossing.name.length(),
-                             this);
+                             projectedCrossingCol + crossing.name.length());
                      cornerList.add(bottomRight);
                  }else{
-                     Corner bottomRight = new Corner(intersectionPoint,
+                     Corner bottomRight = newCorner(pool,
                              Direction.BOTTOM_RIGHT,
-                             projectedCrossingLocation.row + crossing.name.length(),
-                             source.col + source.name.length(),
-                             this);
+                             projectedCrossingRow + crossing.name.length(),
+                             source.col + source.name.length());
                      cornerList.add(bottomRight);
                  }
 
             }else if(crossingIndex== (crossing.name.length()-1)){ // end of crossing word
 
                 if(source.vertical){
-                    Corner bottomLeft = new Corner(intersectionPoint,
+                    Corner bottomLeft = newCorner(pool,
                             Direction.BOTTOM_LEFT,
                             source.row + source.name.length(),
-                            projectedCrossingLocation.col,
-                            this);
+                            projectedCrossingCol);
 
                     cornerList.add(bottomLeft);
                 }else{
-                    Corner topRight = new Corner(intersectionPoint,
+                    Corner topRight = newCorner(pool,
                             Direction.TOP_RIGHT,
-                            projectedCrossingLocation.row,
-                            source.col + source.name.length(),
-                            this);
+                            projectedCrossingRow,
+                            source.col + source.name.length());
                     cornerList.add(topRight);
                 }
             }else{ // in the middle of the crossing word
                 if(source.vertical){
-                    Corner bottomLeft = new Corner(intersectionPoint,
+                    Corner bottomLeft = newCorner(pool,
                             Direction.BOTTOM_LEFT,
                             source.row + source.name.length(),
-                            projectedCrossingLocation.col,
-                            this);
+                            projectedCrossingCol);
 
                     cornerList.add(bottomLeft);
 
-                    Corner bottomRight = new Corner(intersectionPoint,
+                    Corner bottomRight = newCorner(pool,
                             Direction.BOTTOM_RIGHT,
                             source.row + source.name.length(),
-                            projectedCrossingLocation.col + crossing.name.length(),
-                            this);
+                            projectedCrossingCol + crossing.name.length());
                     cornerList.add(bottomRight);
                 }else{
-                    Corner topRight = new Corner(intersectionPoint,
+                    Corner topRight = newCorner(pool,
                             Direction.TOP_RIGHT,
-                            projectedCrossingLocation.row,
-                            source.col + source.name.length(),
-                            this);
+                            projectedCrossingRow,
+                            source.col + source.name.length());
                     cornerList.add(topRight);
 
-                    Corner bottomRight = new Corner(intersectionPoint,
+                    Corner bottomRight = newCorner(pool,
                             Direction.BOTTOM_RIGHT,
-                            projectedCrossingLocation.row + crossing.name.length(),
-                            source.col + source.name.length(),
-                            this);
+                            projectedCrossingRow + crossing.name.length(),
+                            source.col + source.name.length());
                     cornerList.add(bottomRight);
                 }
 
@@ -238,175 +350,151 @@ public class IntersectionOption {
         }else if(sourceIndex== (source.name.length()-1)){ // end of source word
             if(crossingIndex==0){ // beginning of crossing word
                 if(source.vertical){
-                    Corner topRight = new Corner(intersectionPoint,
+                    Corner topRight = newCorner(pool,
                             Direction.TOP_RIGHT,
                             source.row,
-                            projectedCrossingLocation.col+crossing.name.length(),
-                            this);
+                            projectedCrossingCol+crossing.name.length());
                     cornerList.add(topRight);
                 }else{
-                    Corner bottomLeft = new Corner(intersectionPoint,
+                    Corner bottomLeft = newCorner(pool,
                             Direction.BOTTOM_LEFT,
-                            projectedCrossingLocation.row+crossing.name.length(),
-                            source.col,
-                            this);
+                            projectedCrossingRow+crossing.name.length(),
+                            source.col);
                     cornerList.add(bottomLeft);
                 }
 
             }else if(crossingIndex== (crossing.name.length()-1)){ // end of crossing word
                 if(source.vertical){
-                    Corner topLeft = new Corner(intersectionPoint,
+                    Corner topLeft = newCorner(pool,
                             Direction.TOP_LEFT,
                             source.row,
-                            projectedCrossingLocation.col,
-                            this);
+                            projectedCrossingCol);
                     cornerList.add(topLeft);
                 }else{
-                    Corner topLeft = new Corner(intersectionPoint,
+                    Corner topLeft = newCorner(pool,
                             Direction.TOP_LEFT,
-                            projectedCrossingLocation.row,
-                            source.col,
-                            this);
+                            projectedCrossingRow,
+                            source.col);
                     cornerList.add(topLeft);
                 }
             }else{ // in the middle of the crossing word
                 if(source.vertical){
-                    Corner topLeft = new Corner(intersectionPoint,
+                    Corner topLeft = newCorner(pool,
                             Direction.TOP_LEFT,
                             source.row,
-                            projectedCrossingLocation.col,
-                            this);
+                            projectedCrossingCol);
                     cornerList.add(topLeft);
 
-                    Corner topRight = new Corner(intersectionPoint,
+                    Corner topRight = newCorner(pool,
                             Direction.TOP_RIGHT,
                             source.row,
-                            projectedCrossingLocation.col+crossing.name.length(),
-                            this);
+                            projectedCrossingCol+crossing.name.length());
                     cornerList.add(topRight);
                 }else {
-                    Corner topLeft = new Corner(intersectionPoint,
+                    Corner topLeft = newCorner(pool,
                             Direction.TOP_LEFT,
-                            projectedCrossingLocation.row,
-                            source.col,
-                            this);
+                            projectedCrossingRow,
+                            source.col);
                     cornerList.add(topLeft);
 
-                    Corner bottomLeft = new Corner(intersectionPoint,
+                    Corner bottomLeft = newCorner(pool,
                             Direction.BOTTOM_LEFT,
-                            projectedCrossingLocation.row+crossing.name.length(),
-                            source.col,
-                            this);
+                            projectedCrossingRow+crossing.name.length(),
+                            source.col);
                     cornerList.add(bottomLeft);
                 }
             }
         }else{ // in the middle of the source word
             if(crossingIndex==0){ // beginning of crossing word
                 if(source.vertical){
-                    Corner topRight = new Corner(intersectionPoint,
+                    Corner topRight = newCorner(pool,
                             Direction.TOP_RIGHT,
                             source.row,
-                            projectedCrossingLocation.col+crossing.name.length(),
-                            this);
+                            projectedCrossingCol+crossing.name.length());
                     cornerList.add(topRight);
 
-                    Corner bottomRight = new Corner(intersectionPoint,
+                    Corner bottomRight = newCorner(pool,
                             Direction.BOTTOM_RIGHT,
                             source.row+source.name.length(),
-                            projectedCrossingLocation.col+crossing.name.length(),
-                            this);
+                            projectedCrossingCol+crossing.name.length());
                     cornerList.add(bottomRight);
                 }else{
-                    Corner bottomLeft = new Corner(intersectionPoint,
+                    Corner bottomLeft = newCorner(pool,
                             Direction.BOTTOM_LEFT,
-                            projectedCrossingLocation.row+crossing.name.length(),
-                            source.col,
-                            this);
+                            projectedCrossingRow+crossing.name.length(),
+                            source.col);
                     cornerList.add(bottomLeft);
 
-                    Corner bottomRight = new Corner(intersectionPoint,Direction.BOTTOM_RIGHT,
-                            projectedCrossingLocation.col+crossing.name.length(),
-                            source.col+source.name.length(),
-                            this);
+                    Corner bottomRight = newCorner(pool,Direction.BOTTOM_RIGHT,
+                            projectedCrossingCol+crossing.name.length(),
+                            source.col+source.name.length());
                     cornerList.add(bottomRight);
                 }
             }else if(crossingIndex== (crossing.name.length()-1)){ // end of crossing word
                 if(source.vertical){
-                    Corner topLeft = new Corner(intersectionPoint, Direction.TOP_LEFT,
+                    Corner topLeft = newCorner(pool, Direction.TOP_LEFT,
                            source.row,
-                            projectedCrossingLocation.col,
-                            this);
+                            projectedCrossingCol);
                     cornerList.add(topLeft);
 
-                    Corner bottomLeft = new Corner(intersectionPoint,Direction.BOTTOM_LEFT,
+                    Corner bottomLeft = newCorner(pool,Direction.BOTTOM_LEFT,
                             source.row+source.name.length(),
-                            projectedCrossingLocation.col,
-                            this);
+                            projectedCrossingCol);
                     cornerList.add(bottomLeft);
                 }else{
-                    Corner topLeft = new Corner(intersectionPoint,Direction.TOP_LEFT,
-                            projectedCrossingLocation.row,
-                            source.col,
-                            this);
+                    Corner topLeft = newCorner(pool,Direction.TOP_LEFT,
+                            projectedCrossingRow,
+                            source.col);
                     cornerList.add(topLeft);
 
-                    Corner topRight = new Corner(intersectionPoint,Direction.TOP_RIGHT,
-                            projectedCrossingLocation.row,
-                            source.col+source.name.length(),
-                            this);
+                    Corner topRight = newCorner(pool,Direction.TOP_RIGHT,
+                            projectedCrossingRow,
+                            source.col+source.name.length());
                     cornerList.add(topRight);
                 }
             }else{ // in the middle of the crossing word
                 if(source.vertical){
-                    Corner topRight = new Corner(intersectionPoint,
+                    Corner topRight = newCorner(pool,
                             Direction.TOP_RIGHT,
                             source.row,
-                            projectedCrossingLocation.col+crossing.name.length(),
-                            this);
+                            projectedCrossingCol+crossing.name.length());
                     cornerList.add(topRight);
 
-                    Corner bottomRight = new Corner(intersectionPoint,
+                    Corner bottomRight = newCorner(pool,
                             Direction.BOTTOM_RIGHT,
                             source.row+source.name.length(),
-                            projectedCrossingLocation.col+crossing.name.length(),
-                            this);
+                            projectedCrossingCol+crossing.name.length());
                     cornerList.add(bottomRight);
 
-                    Corner topLeft = new Corner(intersectionPoint, Direction.TOP_LEFT,
+                    Corner topLeft = newCorner(pool, Direction.TOP_LEFT,
                             source.row,
-                            projectedCrossingLocation.col,
-                            this);
+                            projectedCrossingCol);
                     cornerList.add(topLeft);
 
-                    Corner bottomLeft = new Corner(intersectionPoint,Direction.BOTTOM_LEFT,
+                    Corner bottomLeft = newCorner(pool,Direction.BOTTOM_LEFT,
                             source.row+source.name.length(),
-                            projectedCrossingLocation.col,
-                            this);
+                            projectedCrossingCol);
                     cornerList.add(bottomLeft);
                 }else{
-                    Corner topLeft = new Corner(intersectionPoint,Direction.TOP_LEFT,
-                            projectedCrossingLocation.row,
-                            source.col,
-                            this);
+                    Corner topLeft = newCorner(pool,Direction.TOP_LEFT,
+                            projectedCrossingRow,
+                            source.col);
                     cornerList.add(topLeft);
 
-                    Corner topRight = new Corner(intersectionPoint,Direction.TOP_RIGHT,
-                            projectedCrossingLocation.row,
-                            source.col+source.name.length(),
-                            this);
+                    Corner topRight = newCorner(pool,Direction.TOP_RIGHT,
+                            projectedCrossingRow,
+                            source.col+source.name.length());
                     cornerList.add(topRight);
 
-                    Corner bottomRight = new Corner(intersectionPoint,Direction.BOTTOM_RIGHT,
-                            projectedCrossingLocation.col+crossing.name.length(),
-                            source.col+source.name.length(),
-                            this);
+                    Corner bottomRight = newCorner(pool,Direction.BOTTOM_RIGHT,
+                            projectedCrossingCol+crossing.name.length(),
+                            source.col+source.name.length());
                     cornerList.add(bottomRight);
 
-                    Corner bottomLeft = new Corner(intersectionPoint,
+                    Corner bottomLeft = newCorner(pool,
                             Direction.BOTTOM_LEFT,
-                            projectedCrossingLocation.row+crossing.name.length(),
-                            source.col,
-                            this);
+                            projectedCrossingRow+crossing.name.length(),
+                            source.col);
                     cornerList.add(bottomLeft);
                 }
             }
@@ -434,6 +522,16 @@ public class IntersectionOption {
         return cornerList;
     }
 
+    /** Takes a corner at the intersection point of this option from the pool, or makes one if there is no pool */
+    private Corner newCorner(CornerPool pool, Direction direction, int limitingRow, int limitingColumn){
+        int row = source.vertical ? source.row + sourceIndex : source.row;
+        int col = source.vertical ? source.col : source.col + sourceIndex;
+        if(pool==null){
+            return new Corner(row,col,direction,limitingRow,limitingColumn,this);
+        }
+        return pool.obtain(row,col,direction,limitingRow,limitingColumn,this);
+    }
+
     /**
      * Places the crossing word with respect to source word. Source word is assumed to be placed
      * @param wordList list of words in the grid. This will be used in finding new corners generated with
@@ -447,8 +545,10 @@ public class IntersectionOption {
         }
 
         // place crossing word
-        Location crossingLocation = this.projectedLocationOfCrossingWord();
-        this.crossing.placeAt(crossingLocation.row,crossingLocation.col,!this.source.vertical);
+        this.crossing.placeAt(
+                projectedRow(this.source,this.sourceIndex,this.crossingIndex),
+                projectedCol(this.source,this.sourceIndex,this.crossingIndex),
+                !this.source.vertical);
 
         // find and return all corners with the placed words in the list
         return this.crossing.findAllCorners(wordList);
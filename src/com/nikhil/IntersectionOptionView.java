@@ -0,0 +1,67 @@
+package com.nikhil;
+
+/**
+ * Read-only view over the intersection options of a word at one index of that word. The view is backed directly by
+ * the packed option list of the word, so nothing is copied when it is handed out. Options whose crossing word got
+ * placed after the list was computed are tombstones, callers are expected to skip them with
+ * {@link #isAvailable(int)}.
+ * <p>
+ * A view can be pointed at another range of options, so that a scan going through many of them uses a single view.
+ */
+public class IntersectionOptionView {
+
+    /** View with nothing in it, for indices that lie outside the word */
+    static final IntersectionOptionView EMPTY = new IntersectionOptionView(null, new LongList(1), 0, 0);
+
+    private LetterIndex letterIndex;
+    private LongList options;
+    private int start;
+    private int end;
+
+    /** Makes an empty view, see {@link #reset(LetterIndex, LongList, int, int)} */
+    IntersectionOptionView() {
+    }
+
+    IntersectionOptionView(LetterIndex letterIndex, LongList options, int start, int end) {
+        reset(letterIndex, options, start, end);
+    }
+
+    /** Points this view at the options from start (inclusive) to end (exclusive) of the given list */
+    void reset(LetterIndex letterIndex, LongList options, int start, int end) {
+        this.letterIndex = letterIndex;
+        this.options = options;
+        this.start = start;
+        this.end = end;
+    }
+
+    /** @return number of options in this view, tombstones included */
+    public int size(){
+        return end - start;
+    }
+
+    /** @return the packed intersection option at the given position of this view */
+    public long get(int i){
+        return options.get(start + i);
+    }
+
+    /** @return true if the crossing word of the option at the given position is still unplaced */
+    public boolean isAvailable(int i){
+        return !letterIndex.wordAt(IntersectionOption.crossingIdOf(get(i))).placed;
+    }
+
+    /** @return new intersection option made from the packed option at the given position */
+    public IntersectionOption optionAt(int i){
+        return IntersectionOption.unpack(get(i), letterIndex);
+    }
+
+    /** @return number of options in this view that are still available */
+    public int countAvailable(){
+        int count = 0;
+        for (int i = 0; i < size(); i++) {
+            if(isAvailable(i)){
+                count++;
+            }
+        }
+        return count;
+    }
+}
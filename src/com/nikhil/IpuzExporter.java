@@ -0,0 +1,117 @@
+package com.nikhil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Exports grids as ipuz crosswords (http://ipuz.org), a JSON format. The puzzle holds the number of every numbered
+ * cell, 0 for the other open cells and "#" for blocks, the solution holds the letter of every open cell. The JSON is
+ * written as it goes, UTF-8 encoded.
+ */
+public class IpuzExporter implements GridExporter {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    @Override
+    public String formatName() {
+        return "ipuz";
+    }
+
+    @Override
+    public String fileExtension() {
+        return "ipuz";
+    }
+
+    @Override
+    public String contentType() {
+        return "application/json";
+    }
+
+    @Override
+    public void export(ClueNumbering numbering, OutputStream out) throws IOException {
+        Utf8Writer json = new Utf8Writer(out);
+        int width = numbering.width();
+        int height = numbering.height();
+
+        json.write("{\"version\":\"http://ipuz.org/v2\",\"kind\":[\"http://ipuz.org/crossword#1\"],");
+        json.write("\"dimensions\":{\"width\":");
+        json.writeNumber(width);
+        json.write(",\"height\":");
+        json.writeNumber(height);
+        json.write("},\"block\":\"#\",\"empty\":0,");
+
+        json.write("\"puzzle\":[");
+        for (int row = 0; row < height; row++) {
+            json.write(row == 0 ? "[" : ",[");
+            for (int col = 0; col < width; col++) {
+                if(col > 0){
+                    json.write(',');
+                }
+                if(numbering.letterAt(row, col) == 0){
+                    json.write("\"#\"");
+                }else{
+                    json.writeNumber(numbering.numberAt(row, col));
+                }
+            }
+            json.write(']');
+        }
+
+        json.write("],\"solution\":[");
+        for (int row = 0; row < height; row++) {
+            json.write(row == 0 ? "[" : ",[");
+            for (int col = 0; col < width; col++) {
+                if(col > 0){
+                    json.write(',');
+                }
+                char letter = numbering.letterAt(row, col);
+                json.write('"');
+                if(letter == 0){
+                    json.write('#');
+                }else{
+                    writeEscaped(json, letter);
+                }
+                json.write('"');
+            }
+            json.write(']');
+        }
+
+        json.write("],\"clues\":{\"Across\":[");
+        writeClues(json, numbering, false);
+        json.write("],\"Down\":[");
+        writeClues(json, numbering, true);
+        json.write("]}}");
+        json.flush();
+    }
+
+    private static void writeClues(Utf8Writer json, ClueNumbering numbering, boolean down) throws IOException {
+        boolean first = true;
+        for (int i = 0; i < numbering.clueCount(); i++) {
+            if(numbering.isDown(i) != down){
+                continue;
+            }
+            json.write(first ? "[" : ",[");
+            json.writeNumber(numbering.clueNumber(i));
+            json.write(",\"");
+            String clue = numbering.clue(i);
+            for (int c = 0; c < clue.length(); c++) {
+                writeEscaped(json, clue.charAt(c));
+            }
+            json.write("\"]");
+            first = false;
+        }
+    }
+
+    /** Writes a character of a JSON string, escaping quotes, backslashes and control characters */
+    private static void writeEscaped(Utf8Writer json, char c) throws IOException {
+        if(c == '"' || c == '\\'){
+            json.write('\\');
+            json.write(c);
+        }else if(c < 0x20){
+            json.write("\\u00");
+            json.write(HEX_DIGITS[c >> 4]);
+            json.write(HEX_DIGITS[c & 0xF]);
+        }else{
+            json.write(c);
+        }
+    }
+}
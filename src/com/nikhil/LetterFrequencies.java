@@ -0,0 +1,219 @@
+package com.nikhil;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Frequencies and occurrences of every letter across a word list, for any alphabet. Letters are UTF-16 chars, which
+ * covers every letter of the alphabets in use (Latin with diacritics, Greek, Cyrillic and so on), each one being the
+ * content of a single grid cell. Nothing is allocated per letter or per occurrence: the frequencies come from the
+ * {@link LetterIndex} of the word list, and the occurrences of all the letters are packed back to back in one int
+ * array, grouped by letter.
+ * <p>
+ * The occurrences of each letter are kept partitioned into those of placed words followed by those of unplaced words.
+ * As a word gets placed, each of its occurrences is swapped to the end of the placed partition of its letter, so a
+ * search only ever goes through the occurrences it is interested in. Both partitions start out in word list order,
+ * which the swaps then perturb.
+ * <p>
+ * Letters are addressed by their position in the increasing order of frequency, equally frequent letters being in
+ * increasing order of the letters themselves.
+ */
+public class LetterFrequencies {
+
+    private final LetterIndex letterIndex;
+    /** Letter of every letter slot of the index */
+    private final char[] letters;
+    /** Letter slots in increasing order of frequency */
+    private final int[] sortedSlots;
+    /** Start of the occurrences of each letter slot, with one extra entry marking the end. Shared with the index */
+    private final int[] start;
+    /** End of the placed partition of each letter slot, which is where its unplaced partition begins */
+    private final int[] placedEnd;
+    /** Packed occurrences (see {@link LetterIndex#pack(int, int)}) grouped by letter, placed ones first */
+    private final int[] occurrences;
+    /** First ordinal of the letters of each word id, the ordinal of a letter being its word's plus its position */
+    private final int[] firstOrdinal;
+    /** Where in {@link #occurrences} the letter with a given ordinal is */
+    private final int[] positions;
+
+    /**
+     * @param letterIndex index the words of the list are attached or bound to
+     * @param wordList the word list, in the order occurrences of a letter should be gone through initially. Words
+     *                 of the list that are placed later must report it through {@link #onPlaced(Word)}
+     */
+    public LetterFrequencies(LetterIndex letterIndex, List<Word> wordList) {
+        this.letterIndex = letterIndex;
+        int distinctLetters = letterIndex.distinctLetters;
+        this.start = letterIndex.start;
+
+        this.letters = new char[distinctLetters];
+        for (int i = 0; i < letterIndex.letterKeys.length; i++) {
+            if(letterIndex.letterKeys[i] >= 0){
+                letters[letterIndex.letterSlots[i]] = (char) letterIndex.letterKeys[i];
+            }
+        }
+
+        this.firstOrdinal = new int[letterIndex.wordCount() + 1];
+        for (int id = 0; id < letterIndex.wordCount(); id++) {
+            firstOrdinal[id + 1] = firstOrdinal[id] + letterIndex.wordAt(id).name.length();
+        }
+
+        // frequencies are known, so a single pass over the words puts each occurrence straight in its place
+        this.occurrences = new int[start[distinctLetters]];
+        this.positions = new int[occurrences.length];
+        this.placedEnd = Arrays.copyOf(start, distinctLetters);
+        int[] cursors = Arrays.copyOf(start, distinctLetters);
+        for (Word word : wordList) {
+            String name = word.name;
+            for (int i = 0; i < name.length(); i++) {
+                int position = cursors[letterIndex.slotOf(name.charAt(i))]++;
+                occurrences[position] = LetterIndex.pack(word.id, i);
+                positions[firstOrdinal[word.id] + i] = position;
+            }
+        }
+        for (Word word : wordList) {
+            if(word.placed){
+                onPlaced(word);
+            }
+        }
+
+        // sort on frequency, then letter, with the slot in the lowest bits
+        long[] keys = new long[distinctLetters];
+        for (int slot = 0; slot < distinctLetters; slot++) {
+            keys[slot] = (long) frequencyOfSlot(slot) << 32 | (long) letters[slot] << 16 | slot;
+        }
+        Arrays.sort(keys);
+        this.sortedSlots = new int[distinctLetters];
+        for (int i = 0; i < distinctLetters; i++) {
+            sortedSlots[i] = (int) (keys[i] & 0xFFFF);
+        }
+    }
+
+    /**
+     * Moves every occurrence of a word that just got placed from the unplaced partition of its letter to the placed
+     * one, by swapping it with the first unplaced occurrence of that letter. Costs as much as the length of the word.
+     * @param word a word of the list, placed once
+     */
+    public void onPlaced(Word word){
+        String name = word.name;
+        for (int i = 0; i < name.length(); i++) {
+            int slot = letterIndex.slotOf(name.charAt(i));
+            int from = positions[firstOrdinal[word.id] + i];
+            int to = placedEnd[slot]++;
+
+            int displaced = occurrences[to];
+            occurrences[to] = occurrences[from];
+            occurrences[from] = displaced;
+            positions[ordinalOf(displaced)] = from;
+            positions[firstOrdinal[word.id] + i] = to;
+        }
+    }
+
+    /**
+     * Moves every occurrence of a word whose placement is taken back to the unplaced partition of its letter, the
+     * reverse of {@link #onPlaced(Word)}: each one is swapped with the last placed occurrence of its letter.
+     * @param word a word of the list, no longer placed
+     */
+    public void onUnplaced(Word word){
+        String name = word.name;
+        for (int i = name.length() - 1; i >= 0; i--) {
+            int slot = letterIndex.slotOf(name.charAt(i));
+            int from = positions[firstOrdinal[word.id] + i];
+            int to = --placedEnd[slot];
+
+            int displaced = occurrences[to];
+            occurrences[to] = occurrences[from];
+            occurrences[from] = displaced;
+            positions[ordinalOf(displaced)] = from;
+            positions[firstOrdinal[word.id] + i] = to;
+        }
+    }
+
+    /** @return number of distinct letters in the word list */
+    public int size(){
+        return sortedSlots.length;
+    }
+
+    /** @return the letter at the given position of the increasing order of frequency */
+    public char letterAt(int rank){
+        return letters[sortedSlots[rank]];
+    }
+
+    /** @return frequency of the letter at the given position of the increasing order of frequency */
+    public int frequencyAt(int rank){
+        return frequencyOfSlot(sortedSlots[rank]);
+    }
+
+    /**
+     * Finds an intersection option amongst all the occurrences of a letter such that their placement is feasible in
+     * the grid. Preference is given to a joint intersection options (only one word unplaced) instead of disjoint
+     * intersection option(both word unplaced)
+     * @param rank position of the letter in the increasing order of frequency
+     * @param grid the grid which will be used to check for placement of the intersection option
+     * @return a feasible intersection option with at least one word unplaced. Null if no such intersection option is
+     * found.
+     */
+    public IntersectionOption findAvailableIntersectionOption(int rank, Grid grid){
+        int slot = sortedSlots[rank];
+        int unplaced = placedEnd[slot];
+        int end = start[slot + 1];
+
+        // all the occurrences for this letter are placed
+        if(unplaced == end){
+            return null;
+        }
+
+        // the first unplaced occurrence is the crossing word, along with a source word that is a distinct unplaced
+        // word, if any. Only occurrences of the crossing word itself are skipped on the way
+        Word crossing = wordOf(occurrences[unplaced]);
+        IntersectionOption disjointIntersectionOption = null;
+        for (int i = unplaced + 1; i < end; i++) {
+            Word word = wordOf(occurrences[i]);
+            if(word != crossing){
+                disjointIntersectionOption = new IntersectionOption(
+                        word,
+                        LetterIndex.positionOf(occurrences[i]),
+                        crossing,
+                        LetterIndex.positionOf(occurrences[unplaced]));
+                break;
+            }
+        }
+
+        // (priority) look for a placed word such that the placement of the crossing word is allowed in the grid
+        char letter = letters[slot];
+        for (int i = start[slot]; i < unplaced; i++) {
+            Word source = wordOf(occurrences[i]);
+            int sourceIndex = LetterIndex.positionOf(occurrences[i]);
+
+            // try every index of the crossing word holding this letter
+            for (int crossingIndex = 0; crossingIndex < crossing.name.length(); crossingIndex++) {
+                if(crossing.name.charAt(crossingIndex) != letter){
+                    continue;
+                }
+
+                // check if the the crossing word can be safely placed in the grid or not
+                // (the option is only allocated once it turns out to be feasible)
+                int row = IntersectionOption.projectedRow(source, sourceIndex, crossingIndex);
+                int col = IntersectionOption.projectedCol(source, sourceIndex, crossingIndex);
+
+                if(grid.isPlacementOfWordAllowed(crossing, row, col, !source.vertical)){
+                    return new IntersectionOption(source, sourceIndex, crossing, crossingIndex);
+                }
+            }
+        }
+
+        return disjointIntersectionOption; // if one doesn't exist, return's null
+    }
+
+    private int frequencyOfSlot(int slot){
+        return start[slot + 1] - start[slot];
+    }
+
+    private Word wordOf(int occurrence){
+        return letterIndex.wordAt(LetterIndex.wordIdOf(occurrence));
+    }
+
+    private int ordinalOf(int occurrence){
+        return firstOrdinal[LetterIndex.wordIdOf(occurrence)] + LetterIndex.positionOf(occurrence);
+    }
+}
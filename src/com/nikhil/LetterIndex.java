@@ -0,0 +1,254 @@
+package com.nikhil;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Inverted index from a letter to every (word, position) pair of a word list where that letter occurs. Built once
+ * per word list, it lets intersection options be enumerated by looking up the letters of a word instead of scanning
+ * every letter of every other word. Occurrences of all the letters are stored back to back in one primitive array,
+ * each one packed into an int as the id of the word (its position in the word list) and the index of the letter.
+ */
+public class LetterIndex {
+
+    /** Number of bits holding the position of the letter in a packed occurrence */
+    static final int POSITION_BITS = 8;
+    /** Longest word that can be indexed */
+    static final int MAX_WORD_LENGTH = (1 << POSITION_BITS) - 1;
+    /** Largest number of words that can be indexed */
+    static final int MAX_WORDS = 1 << (31 - POSITION_BITS);
+
+    /** Key of a free slot of the letter table */
+    static final int NO_LETTER = -1;
+
+    /** Word list this index was built from */
+    private final List<Word> source;
+    /** Words addressable by their id */
+    private final Word[] words;
+
+    // tables below are only written while the index is being built, after which they can be shared between indices
+
+    /** Open addressing table of the distinct letters, each mapped to a dense letter slot */
+    int[] letterKeys;
+    int[] letterSlots;
+    int distinctLetters = 0;
+
+    /** Start of the occurrences of each letter slot in {@link #occurrences}, with one extra entry marking the end */
+    int[] start;
+    /** Packed occurrences grouped by letter, in word list order within a letter */
+    int[] occurrences;
+
+    public LetterIndex(List<Word> wordList) {
+        if(wordList.size() > MAX_WORDS){
+            throw new IllegalArgumentException("Cannot index more than " + MAX_WORDS + " words");
+        }
+
+        this.source = wordList;
+        this.words = wordList.toArray(new Word[0]);
+        this.letterKeys = new int[64];
+        this.letterSlots = new int[64];
+        Arrays.fill(this.letterKeys, NO_LETTER);
+
+        // first pass counts the occurrences of each distinct letter
+        int[] counts = new int[16];
+        int total = 0;
+        for (Word word : words) {
+            int length = word.name.length();
+            if(length > MAX_WORD_LENGTH){
+                throw new IllegalArgumentException("Cannot index " + word.name + ", words are limited to " +
+                        MAX_WORD_LENGTH + " letters");
+            }
+            for (int i = 0; i < length; i++) {
+                int slot = slotOfOrInsert(word.name.charAt(i));
+                if(slot >= counts.length){
+                    counts = Arrays.copyOf(counts, counts.length * 2);
+                }
+                counts[slot]++;
+                total++;
+            }
+        }
+
+        // prefix sums give where the occurrences of each letter begin
+        this.start = new int[distinctLetters + 1];
+        for (int slot = 0; slot < distinctLetters; slot++) {
+            start[slot + 1] = start[slot] + counts[slot];
+        }
+
+        // second pass fills in the occurrences, reusing the counts as write cursors
+        this.occurrences = new int[total];
+        System.arraycopy(start, 0, counts, 0, distinctLetters);
+        for (int id = 0; id < words.length; id++) {
+            String name = words[id].name;
+            for (int i = 0; i < name.length(); i++) {
+                int slot = slotOf(name.charAt(i));
+                occurrences[counts[slot]++] = pack(id, i);
+            }
+        }
+    }
+
+    /**
+     * Builds an index for the given word list and makes it the shared index of every word in the list. Each word
+     * gets its position in the list as its id, which is how packed intersection options refer to words.
+     * @param wordList the list of words to index
+     * @return the index attached to the words
+     */
+    public static LetterIndex attachTo(List<Word> wordList){
+        LetterIndex index = new LetterIndex(wordList);
+        for (int id = 0; id < index.words.length; id++) {
+            index.words[id].id = id;
+            index.words[id].letterIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * Makes an index for the given words that shares all the occurrence tables of this index, so nothing is counted
+     * or sorted again. The words are attached to the new index, getting their position in the given array as id.
+     * @param wordList list of the words, in any order
+     * @param wordsById the same words, with the same names at the same positions as the words of this index
+     * @return new index attached to the words
+     */
+    LetterIndex bindTo(List<Word> wordList, Word[] wordsById){
+        if(wordsById.length != words.length || wordList.size() != words.length){
+            throw new IllegalArgumentException("Cannot bind an index of " + words.length + " words to " +
+                    wordsById.length + " words");
+        }
+
+        LetterIndex bound = new LetterIndex(this, wordList, wordsById);
+        for (int id = 0; id < wordsById.length; id++) {
+            wordsById[id].id = id;
+            wordsById[id].letterIndex = bound;
+        }
+        return bound;
+    }
+
+    /** Shares the occurrence tables of another index, see {@link #bindTo(List, Word[])} */
+    private LetterIndex(LetterIndex shared, List<Word> wordList, Word[] wordsById) {
+        this(wordList, wordsById, shared.letterKeys, shared.letterSlots, shared.distinctLetters, shared.start,
+                shared.occurrences);
+    }
+
+    /**
+     * Makes an index out of tables built earlier, see {@link DictionaryFile}. The tables must have been built from
+     * words with the same names, in the same order, as the given words.
+     */
+    LetterIndex(List<Word> wordList, Word[] wordsById, int[] letterKeys, int[] letterSlots, int distinctLetters,
+                int[] start, int[] occurrences) {
+        this.source = wordList;
+        this.words = wordsById;
+        this.letterKeys = letterKeys;
+        this.letterSlots = letterSlots;
+        this.distinctLetters = distinctLetters;
+        this.start = start;
+        this.occurrences = occurrences;
+    }
+
+    /** Packs a word id and the position of a letter within that word into a single occurrence */
+    static int pack(int wordId, int position){
+        return (wordId << POSITION_BITS) | position;
+    }
+
+    /** @return id of the word from a packed occurrence */
+    static int wordIdOf(int occurrence){
+        return occurrence >>> POSITION_BITS;
+    }
+
+    /** @return position of the letter within its word from a packed occurrence */
+    static int positionOf(int occurrence){
+        return occurrence & MAX_WORD_LENGTH;
+    }
+
+    /**
+     * Checks if this index was built from the given word list. The list is expected not to have changed since.
+     * @param wordList a word list
+     * @return true if the same list (with the same number of words) was used to build this index
+     */
+    public boolean isBuiltFrom(List<Word> wordList){
+        return this.source == wordList && this.words.length == wordList.size();
+    }
+
+    /** @return total words indexed */
+    public int wordCount(){
+        return words.length;
+    }
+
+    /** @return the word with the given id */
+    public Word wordAt(int id){
+        return words[id];
+    }
+
+    /** @return position in {@link #occurrenceAt(int)} where the occurrences of the given letter begin */
+    public int firstOccurrence(char letter){
+        int slot = slotOf(letter);
+        return slot == NO_LETTER ? 0 : start[slot];
+    }
+
+    /** @return position in {@link #occurrenceAt(int)} right after the last occurrence of the given letter */
+    public int endOfOccurrences(char letter){
+        int slot = slotOf(letter);
+        return slot == NO_LETTER ? 0 : start[slot + 1];
+    }
+
+    /** @return total number of times the given letter occurs across all the words */
+    public int frequencyOf(char letter){
+        return endOfOccurrences(letter) - firstOccurrence(letter);
+    }
+
+    /** @return the packed occurrence at the given position */
+    public int occurrenceAt(int position){
+        return occurrences[position];
+    }
+
+    /** @return dense slot of a letter, or {@link #NO_LETTER} if the letter doesn't occur in any word */
+    int slotOf(int letter){
+        int mask = letterKeys.length - 1;
+        int i = (letter * 0x9E3779B1) >>> 16 & mask;
+        while (letterKeys[i] != NO_LETTER) {
+            if(letterKeys[i] == letter){
+                return letterSlots[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return NO_LETTER;
+    }
+
+    /** @return dense slot of a letter, assigning the next free slot if this letter hasn't been seen so far */
+    private int slotOfOrInsert(int letter){
+        int slot = slotOf(letter);
+        if(slot != NO_LETTER){
+            return slot;
+        }
+
+        if((distinctLetters + 1) * 2 > letterKeys.length){
+            growLetterTable();
+        }
+        int mask = letterKeys.length - 1;
+        int i = (letter * 0x9E3779B1) >>> 16 & mask;
+        while (letterKeys[i] != NO_LETTER) {
+            i = (i + 1) & mask;
+        }
+        letterKeys[i] = letter;
+        letterSlots[i] = distinctLetters;
+        return distinctLetters++;
+    }
+
+    private void growLetterTable(){
+        int[] oldKeys = letterKeys;
+        int[] oldSlots = letterSlots;
+        letterKeys = new int[oldKeys.length * 2];
+        letterSlots = new int[oldSlots.length * 2];
+        Arrays.fill(letterKeys, NO_LETTER);
+
+        int mask = letterKeys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if(oldKeys[j] != NO_LETTER){
+                int i = (oldKeys[j] * 0x9E3779B1) >>> 16 & mask;
+                while (letterKeys[i] != NO_LETTER) {
+                    i = (i + 1) & mask;
+                }
+                letterKeys[i] = oldKeys[j];
+                letterSlots[i] = oldSlots[j];
+            }
+        }
+    }
+}
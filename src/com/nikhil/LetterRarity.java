@@ -0,0 +1,155 @@
+package com.nikhil;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Rank of every letter of a word list by how rare it is, the rarest letter having rank 0. Letters that occur equally
+ * often share a rank. Ranks of letters up to {@value #DIRECT_LETTERS} are kept in a table addressed by the letter
+ * itself, any other letter is looked up through the dense letter slots of the {@link LetterIndex}.
+ * <p>
+ * Intersection options are sorted rarest letter first by computing one primitive sort key per option and sorting the
+ * keys, so no table is consulted while comparing. Optionally the key also weighs in the crossing word, preferring
+ * longer crossing words and crossings close to the middle of the crossing word among equally rare letters.
+ */
+public class LetterRarity {
+
+    /** Letters below this get their rank straight from {@link #directRanks} */
+    static final int DIRECT_LETTERS = 256;
+
+    /** Rank given to letters that don't occur in the word list at all */
+    private static final int UNKNOWN_RANK = 0;
+
+    private final LetterIndex letterIndex;
+    private final boolean weighted;
+    private final int[] directRanks = new int[DIRECT_LETTERS];
+    /** Rank of every letter slot of the index */
+    private final int[] slotRanks;
+
+    /** Sort keys of the options being sorted, reused between sorts */
+    private long[] keys = new long[64];
+    private IntersectionOption[] sorted = new IntersectionOption[64];
+    private long[] merged = new long[64];
+
+    /**
+     * @param letterIndex index of the word list whose letters are ranked
+     * @param weighted true to break ties between equally rare letters by the length of the crossing word and the
+     *                 position of the crossing within it, false to keep the order of the options in that case
+     */
+    public LetterRarity(LetterIndex letterIndex, boolean weighted) {
+        this.letterIndex = letterIndex;
+        this.weighted = weighted;
+
+        // dense ranks of the distinct frequencies, in increasing order
+        int distinctLetters = letterIndex.distinctLetters;
+        int[] frequencies = new int[distinctLetters];
+        for (int slot = 0; slot < distinctLetters; slot++) {
+            frequencies[slot] = letterIndex.start[slot + 1] - letterIndex.start[slot];
+        }
+        int[] distinctFrequencies = frequencies.clone();
+        Arrays.sort(distinctFrequencies);
+        int ranks = 0;
+        for (int i = 0; i < distinctFrequencies.length; i++) {
+            if(i == 0 || distinctFrequencies[i] != distinctFrequencies[i - 1]){
+                distinctFrequencies[ranks++] = distinctFrequencies[i];
+            }
+        }
+
+        this.slotRanks = new int[distinctLetters];
+        for (int slot = 0; slot < distinctLetters; slot++) {
+            slotRanks[slot] = Arrays.binarySearch(distinctFrequencies, 0, ranks, frequencies[slot]);
+        }
+
+        // fast path for the letters most word lists are made of
+        for (int letter = 0; letter < DIRECT_LETTERS; letter++) {
+            directRanks[letter] = rankOfSlot(letterIndex.slotOf(letter));
+        }
+    }
+
+    /** @return rank of the given letter, 0 being the rarest */
+    public int rankOf(char letter){
+        return letter < DIRECT_LETTERS ? directRanks[letter] : rankOfSlot(letterIndex.slotOf(letter));
+    }
+
+    /**
+     * Sort key of an intersection option, lower keys coming first. The rank of the crossing letter makes up the upper
+     * half of the key. When weighted, the lower half prefers long crossing words and crossings near their middle.
+     */
+    long sortKey(IntersectionOption intersectionOption){
+        long key = (long) rankOf(intersectionOption.letter()) << 16;
+        if(weighted){
+            int length = intersectionOption.crossing.name.length();
+            int offCentre = Math.abs(2 * intersectionOption.crossingIndex - (length - 1));
+            key |= (LetterIndex.MAX_WORD_LENGTH - length) << 8 | Math.min(offCentre, 0xFF);
+        }
+        return key;
+    }
+
+    /**
+     * Sorts intersection options rarest crossing letter first. Options with equal keys keep their order.
+     * @param intersectionOptions the options to sort, at most 2^31 - 1 of them
+     */
+    public void sort(List<IntersectionOption> intersectionOptions){
+        int size = intersectionOptions.size();
+        if(size < 2){
+            return;
+        }
+        if(keys.length < size){
+            keys = new long[Math.max(size, keys.length * 2)];
+            sorted = new IntersectionOption[keys.length];
+        }
+
+        // the position of each option sits below its key, so that sorting the keys keeps equal keys in order
+        for (int i = 0; i < size; i++) {
+            IntersectionOption intersectionOption = intersectionOptions.get(i);
+            sorted[i] = intersectionOption;
+            keys[i] = sortKey(intersectionOption) << 31 | i;
+        }
+        sortKeys(size);
+
+        for (int i = 0; i < size; i++) {
+            intersectionOptions.set(i, sorted[(int) (keys[i] & Integer.MAX_VALUE)]);
+        }
+        Arrays.fill(sorted, 0, size, null);
+    }
+
+    /**
+     * Sorts the first keys in place. Options mostly get sorted again after a few more have been appended to an already
+     * sorted list, so only the unsorted tail is sorted and then merged with the sorted head, through a buffer kept
+     * between sorts. Sorting all the keys at once would allocate buffers to merge the runs it finds.
+     */
+    private void sortKeys(int size){
+        int sortedHead = 1;
+        while(sortedHead < size && keys[sortedHead - 1] < keys[sortedHead]){
+            sortedHead++;
+        }
+        if(sortedHead == size){
+            return;
+        }
+        Arrays.sort(keys, sortedHead, size);
+        if(keys[sortedHead - 1] < keys[sortedHead]){
+            return;
+        }
+
+        // merge from the back, so that only the tail needs to be set aside
+        int tail = size - sortedHead;
+        if(merged.length < tail){
+            merged = new long[Math.max(tail, merged.length * 2)];
+        }
+        System.arraycopy(keys, sortedHead, merged, 0, tail);
+        int head = sortedHead - 1;
+        int rest = tail - 1;
+        int to = size - 1;
+        while(rest >= 0){
+            if(head >= 0 && keys[head] > merged[rest]){
+                keys[to--] = keys[head--];
+            }else{
+                keys[to--] = merged[rest--];
+            }
+        }
+    }
+
+    private int rankOfSlot(int slot){
+        return slot < 0 ? UNKNOWN_RANK : slotRanks[slot];
+    }
+}
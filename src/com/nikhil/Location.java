@@ -1,7 +1,14 @@
 package com.nikhil;
 
-/** Data holder for storing grid location */
+/**
+ * Data holder for storing grid location. Hot paths keep locations packed into a long instead, see
+ * {@link #pack(int, int)}, so that they don't allocate a holder for every point they go through.
+ */
 public class Location {
+
+    /** Packed location standing for no location at all */
+    static final long NOWHERE = Long.MIN_VALUE;
+
     int row;
     int col;
 
@@ -12,19 +19,34 @@ public class Location {
         this.col = col;
     }
 
+    /** Packs a row and column into a long, the same way as {@link Occupancy#key(int, int)} */
+    static long pack(int row, int col){
+        return Occupancy.key(row, col);
+    }
+
+    /** @return row of a packed location */
+    static int rowOf(long packed){
+        return (int) (packed >> 32);
+    }
+
+    /** @return column of a packed location */
+    static int colOf(long packed){
+        return (int) packed;
+    }
+
     /**
      * Checks if another location lies within span of this location going in right or down direction
      * @param other the location that should be contained within a specified distance
      * @param span the distance within which the location should overlap
      * @param vertical weather to check vertically or horizontally for location overlap
-     * @return true if other location is situated within span of this location, false otherwise
+     * @return true if other location is situated within span (exclusive) of this location, false otherwise
      */
     public boolean containsInSpan(Location other, int span, boolean vertical){
 
         if(vertical){ // going down
-            return this.row<=other.row && other.row<=(this.row+span);
+            return this.row<=other.row && other.row<(this.row+span);
         }else{ // going right
-            return this.col<=other.col && other.col<=(this.col+span);
+            return this.col<=other.col && other.col<(this.col+span);
         }
     }
 
@@ -52,16 +74,25 @@ public class Location {
      * False if there is a gap or this location is situated diagonally at the tip of the range.
      */
     public boolean touches(int row,int col,int length,boolean vertical){
+        return touches(this.row,this.col,row,col,length,vertical);
+    }
+
+    /**
+     * Same as {@link #touches(int, int, int, boolean)}, for a point given by its row and column
+     * @param pointRow row of the point
+     * @param pointCol column of the point
+     */
+    static boolean touches(int pointRow,int pointCol,int row,int col,int length,boolean vertical){
         if(vertical){
-            return (this.col>=(col-1) && this.col<=(col+1) && // side to side
-                    this.row>=row && this.row< (row+length)) || // within span
-                    (this.row == (row-1) && this.col == col)|| // above
-                    (this.row == (row+length) && this.col == col); // below
+            return (pointCol>=(col-1) && pointCol<=(col+1) && // side to side
+                    pointRow>=row && pointRow< (row+length)) || // within span
+                    (pointRow == (row-1) && pointCol == col)|| // above
+                    (pointRow == (row+length) && pointCol == col); // below
         }else{
-            return (this.row>=(row-1) && this.row<=(row+1) && // above and below
-                    this.col>=col && this.col< (col+length)) || // within span
-                    (this.row == row && this.col == (col-1))|| // left
-                    (this.row == row && this.col == (col +length)); // right
+            return (pointRow>=(row-1) && pointRow<=(row+1) && // above and below
+                    pointCol>=col && pointCol< (col+length)) || // within span
+                    (pointRow == row && pointCol == (col-1))|| // left
+                    (pointRow == row && pointCol == (col +length)); // right
         }
     }
 
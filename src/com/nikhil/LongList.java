@@ -0,0 +1,72 @@
+package com.nikhil;
+
+import java.util.Arrays;
+
+/** Growable array of primitive longs, used wherever boxing a {@link java.util.List} of longs would be too costly */
+public class LongList {
+
+    private long[] values;
+    private int size = 0;
+
+    public LongList() {
+        this(8);
+    }
+
+    public LongList(int initialCapacity) {
+        this.values = new long[Math.max(initialCapacity, 1)];
+    }
+
+    /** Appends a value at the end of the list, growing the backing array if needed */
+    public void add(long value){
+        if(size == values.length){
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[size++] = value;
+    }
+
+    public long get(int index){
+        if(index >= size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return values[index];
+    }
+
+    public void set(int index, long value){
+        if(index >= size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        values[index] = value;
+    }
+
+    public int size(){
+        return size;
+    }
+
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    /** Drops every value beyond the given size. The backing array is kept for reuse */
+    public void truncate(int newSize){
+        if(newSize < size){
+            size = newSize;
+        }
+    }
+
+    /** Empties the list while keeping the backing array for reuse */
+    public void clear(){
+        size = 0;
+    }
+
+    /** Sorts the values of the list in increasing order */
+    public void sort(){
+        Arrays.sort(values, 0, size);
+    }
+
+    /** Releases unused capacity of the backing array */
+    public void trimToSize(){
+        if(values.length > size){
+            values = Arrays.copyOf(values, Math.max(size, 1));
+        }
+    }
+}
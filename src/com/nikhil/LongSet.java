@@ -0,0 +1,92 @@
+package com.nikhil;
+
+import java.util.Arrays;
+
+/**
+ * Set of primitive longs, open addressed with linear probing, used wherever a {@link java.util.Set} of boxed longs
+ * would be too costly. Clearing keeps the table, so a set that is filled and cleared over and over stops allocating
+ * once it has grown to its largest size.
+ */
+public class LongSet {
+
+    /** Marks a free slot of the table. The value itself is tracked apart */
+    private static final long FREE = Long.MIN_VALUE;
+
+    private long[] keys;
+    private int size = 0;
+    private boolean containsFree = false;
+
+    public LongSet() {
+        this(16);
+    }
+
+    /** @param expectedSize number of values the set can hold before it grows */
+    public LongSet(int expectedSize) {
+        this.keys = new long[Integer.highestOneBit(Math.max(expectedSize, 2) * 2 - 1) * 2];
+        Arrays.fill(this.keys, FREE);
+    }
+
+    /**
+     * Adds a value to the set
+     * @return true if the value was not in the set yet
+     */
+    public boolean add(long value){
+        if(value == FREE){
+            boolean added = !containsFree;
+            containsFree = true;
+            return added;
+        }
+
+        int slot = slotOf(value);
+        if(keys[slot] == value){
+            return false;
+        }
+        keys[slot] = value;
+        if(++size * 2 > keys.length){
+            grow();
+        }
+        return true;
+    }
+
+    public boolean contains(long value){
+        return value == FREE ? containsFree : keys[slotOf(value)] == value;
+    }
+
+    public int size(){
+        return containsFree ? size + 1 : size;
+    }
+
+    public boolean isEmpty(){
+        return size() == 0;
+    }
+
+    /** Empties the set while keeping its table for reuse */
+    public void clear(){
+        if(size > 0){
+            Arrays.fill(keys, FREE);
+            size = 0;
+        }
+        containsFree = false;
+    }
+
+    /** @return slot holding the value, or the free slot where it would go */
+    private int slotOf(long value){
+        int mask = keys.length - 1;
+        int i = (int) ((value * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+        while (keys[i] != FREE && keys[i] != value) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    private void grow(){
+        long[] old = keys;
+        keys = new long[old.length * 2];
+        Arrays.fill(keys, FREE);
+        for (long value : old) {
+            if(value != FREE){
+                keys[slotOf(value)] = value;
+            }
+        }
+    }
+}
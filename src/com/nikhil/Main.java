@@ -1,11 +1,26 @@
 package com.nikhil;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
 
 public class Main {
 
     public static void main(String[] args) {
 
+        if(args.length > 0 && args[0].equals("batch")){
+            batch(args);
+            return;
+        }
+        if(args.length > 0 && args[0].equals("serve")){
+            serve(args);
+            return;
+        }
+
         String filename = "random.txt";
 
         try {
@@ -17,4 +32,75 @@ public class Main {
             e.printStackTrace();
         }
     }
+
+    /**
+     * Generates puzzles in bulk, see {@link BatchPipeline}. Arguments are: batch, the word list or dictionary file, the
+     * number of puzzles, the number of words per puzzle, the output directory, and optionally the format (ipuz by
+     * default) and the number of workers (one per core by default)
+     */
+    private static void batch(String[] args) {
+        String usage = "Usage: batch <word list> <puzzles> <words per puzzle> <output directory> [format] [workers]";
+        if(args.length < 5){
+            System.out.println(usage);
+            return;
+        }
+
+        try {
+            Dictionary dictionary = CrosswordFactory.loadDictionary(args[1]);
+            long puzzles = Long.parseLong(args[2]);
+            int wordsPerPuzzle = Integer.parseInt(args[3]);
+            Path directory = Files.createDirectories(Paths.get(args[4]));
+            GridExporter exporter = GridExporters.forName(args.length > 5 ? args[5] : "ipuz");
+            int workers = args.length > 6 ? Integer.parseInt(args[6]) : Runtime.getRuntime().availableProcessors();
+
+            BatchPipeline pipeline = new BatchPipeline(dictionary, wordsPerPuzzle, puzzles, workers, 2 * workers,
+                    System.nanoTime());
+            pipeline.run(BatchPipeline.toDirectory(directory, exporter));
+
+            System.out.println(pipeline.reading());
+            System.out.println(pipeline.placing());
+            System.out.println(pipeline.writing());
+        } catch (IOException e) {
+            System.out.println("Batch failed: " + e.getMessage());
+            e.printStackTrace();
+        } catch (IllegalArgumentException e) {
+            // numbers that are not numbers (NumberFormatException), an unknown format or no workers
+            System.out.println(e.getMessage());
+            System.out.println(usage);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Serves grids over HTTP until the JVM is stopped, see {@link GridService}. Arguments are: serve, the port, then
+     * any number of dictionaries as id=file, every file being a word list or a dictionary file
+     */
+    private static void serve(String[] args) {
+        String usage = "Usage: serve <port> [<dictionary id>=<word list>...]";
+        if(args.length < 2){
+            System.out.println(usage);
+            return;
+        }
+
+        try {
+            Map<String, Dictionary> dictionaries = new HashMap<>();
+            for (int i = 2; i < args.length; i++) {
+                int equals = args[i].indexOf('=');
+                if(equals <= 0){
+                    System.out.println(usage);
+                    return;
+                }
+                dictionaries.put(args[i].substring(0, equals),
+                        CrosswordFactory.loadDictionary(args[i].substring(equals + 1)));
+            }
+
+            GridService service = new GridService(dictionaries);
+            service.start(new InetSocketAddress(Integer.parseInt(args[1])));
+            System.out.println("Serving grids on port " + service.port());
+        } catch (IOException e) {
+            System.out.println("Could not start serving: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
 }
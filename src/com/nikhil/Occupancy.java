@@ -0,0 +1,308 @@
+package com.nikhil;
+
+import java.util.Arrays;
+
+/**
+ * Sparse, growable map of the cells covered by placed words. Every cell stores the letter placed on it, the
+ * alignment(s) and ids of the words owning it and a mask of which of its four neighbours are occupied. This allows a
+ * placement check to look at only the cells a word would cover instead of every placed word in the grid.
+ * Cells are kept in an open addressing hash table keyed by the packed row and column of the cell.
+ * <p>
+ * While an undo log is kept (see {@link #startUndoLog()}), every cell is logged before it changes, so that placements
+ * can be taken back by rolling the cells back to a mark instead of copying the whole map.
+ */
+public class Occupancy {
+
+    /** Lower 16 bits of a cell hold the letter placed on that cell (0 if the cell is empty) */
+    static final int LETTER_MASK = 0xFFFF;
+    /** Cell is covered by a horizontal word */
+    static final int OWNED_HORIZONTALLY = 1 << 16;
+    /** Cell is covered by a vertical word */
+    static final int OWNED_VERTICALLY = 1 << 17;
+
+    /** The cell above is occupied */
+    static final int TOP_OCCUPIED = 1 << 18;
+    /** The cell below is occupied */
+    static final int BOTTOM_OCCUPIED = 1 << 19;
+    /** The cell to the left is occupied */
+    static final int LEFT_OCCUPIED = 1 << 20;
+    /** The cell to the right is occupied */
+    static final int RIGHT_OCCUPIED = 1 << 21;
+
+    /** The cell above is covered by a horizontal word, i.e. a word parallel to a horizontal word through this cell */
+    static final int TOP_HORIZONTAL = 1 << 22;
+    /** The cell below is covered by a horizontal word */
+    static final int BOTTOM_HORIZONTAL = 1 << 23;
+    /** The cell to the left is covered by a vertical word */
+    static final int LEFT_VERTICAL = 1 << 24;
+    /** The cell to the right is covered by a vertical word */
+    static final int RIGHT_VERTICAL = 1 << 25;
+
+    private static final long EMPTY_KEY = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private long[] keys;
+    private int[] values;
+    /** Id (plus one, 0 meaning none) of the horizontal and of the vertical word covering each cell */
+    private int[] horizontalOwners;
+    private int[] verticalOwners;
+    private int size = 0;
+    /** Number of cells holding a letter */
+    private int letterCells = 0;
+    /** Number of words added, which tells whether anything got placed between two points in time */
+    private int wordsAdded = 0;
+    /** Key, value and both owners of every cell before it changed, null while no undo log is kept */
+    private LongList undoLog = null;
+
+    public Occupancy() {
+        this.keys = new long[INITIAL_CAPACITY];
+        this.values = new int[INITIAL_CAPACITY];
+        this.horizontalOwners = new int[INITIAL_CAPACITY];
+        this.verticalOwners = new int[INITIAL_CAPACITY];
+        Arrays.fill(this.keys, EMPTY_KEY);
+    }
+
+    /** Packs a row and column into a single key */
+    static long key(int row, int col){
+        return ((long) row << 32) | (col & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @return the raw cell value at the given location. 0 if nothing is placed on or around the cell
+     */
+    public int cellAt(int row, int col){
+        long key = key(row, col);
+        int slot = slotOf(key);
+        return keys[slot] == EMPTY_KEY ? 0 : values[slot];
+    }
+
+    /**
+     * @return letter placed at the given location, 0 if the cell is empty
+     */
+    public char letterAt(int row, int col){
+        return (char) (cellAt(row, col) & LETTER_MASK);
+    }
+
+    /**
+     * @param vertical alignment of the word to look for
+     * @return id (see {@link LetterIndex}) of the word of the given alignment covering the given location, -1 if
+     * there is none
+     */
+    public int ownerAt(int row, int col, boolean vertical){
+        int slot = slotOf(key(row, col));
+        if(keys[slot] == EMPTY_KEY){
+            return -1;
+        }
+        return (vertical ? verticalOwners[slot] : horizontalOwners[slot]) - 1;
+    }
+
+    /** @return number of cells that hold a letter */
+    public int letterCount(){
+        return letterCells;
+    }
+
+    /**
+     * @return number of words added since this map was made or last cleared. Words taken back through the undo log
+     * are still counted, so that the count changes whenever a word gets placed
+     */
+    public int wordCount(){
+        return wordsAdded;
+    }
+
+    /** Removes every cell from this occupancy map */
+    public void clear(){
+        Arrays.fill(this.keys, EMPTY_KEY);
+        Arrays.fill(this.horizontalOwners, 0);
+        Arrays.fill(this.verticalOwners, 0);
+        this.size = 0;
+        this.letterCells = 0;
+        this.wordsAdded = 0;
+        if(this.undoLog != null){
+            this.undoLog.clear();
+        }
+    }
+
+    /** Starts logging every change to the cells, so that changes made from a {@link #mark()} on can be undone */
+    public void startUndoLog(){
+        this.undoLog = new LongList(256);
+    }
+
+    /** Stops logging changes to the cells, the changes made so far can't be undone any more */
+    public void stopUndoLog(){
+        this.undoLog = null;
+    }
+
+    /** @return the point of the undo log to roll back to with {@link #undoTo(int)} */
+    public int mark(){
+        return undoLog.size();
+    }
+
+    /**
+     * Rolls every cell back to what it was at a mark of the undo log. Cells added since are emptied rather than
+     * removed, an empty cell being the same as no cell to every query.
+     * @param mark a mark taken since the undo log was started
+     */
+    public void undoTo(int mark){
+        for (int i = undoLog.size() - 3; i >= mark; i -= 3) {
+            int slot = slotOf(undoLog.get(i));
+            int value = (int) undoLog.get(i + 1);
+            long owners = undoLog.get(i + 2);
+
+            if((values[slot] & LETTER_MASK) != 0 && (value & LETTER_MASK) == 0){
+                letterCells--;
+            }
+            values[slot] = value;
+            horizontalOwners[slot] = (int) (owners >>> 32);
+            verticalOwners[slot] = (int) owners;
+        }
+        undoLog.truncate(mark);
+    }
+
+    /** Logs a cell as it is before it changes, if an undo log is kept. An absent cell is logged as an empty one */
+    private void log(long key){
+        if(undoLog == null){
+            return;
+        }
+        int slot = slotOf(key);
+        boolean present = keys[slot] != EMPTY_KEY;
+        undoLog.add(key);
+        undoLog.add(present ? values[slot] : 0);
+        undoLog.add(present ? (long) horizontalOwners[slot] << 32 | (verticalOwners[slot] & 0xFFFFFFFFL) : 0);
+    }
+
+    /**
+     * Marks all the cells covered by a placed word as occupied and updates the neighbour masks of the cells around
+     * it. Placing the same word twice is not supported.
+     * @param word a placed word with defined coordinates and alignment
+     */
+    public void add(Word word){
+        int length = word.name.length();
+        int owner = word.vertical ? OWNED_VERTICALLY : OWNED_HORIZONTALLY;
+        wordsAdded++;
+
+        for (int i = 0; i < length; i++) {
+            int row = word.vertical ? word.row + i : word.row;
+            int col = word.vertical ? word.col : word.col + i;
+
+            // letter and alignment of the cell itself
+            if((cellAt(row, col) & LETTER_MASK) == 0){
+                letterCells++;
+            }
+            log(key(row, col)); // the owners change as well, even if the letter is already there
+            merge(row, col, owner | word.name.charAt(i));
+            int slot = slotOf(key(row, col));
+            if(word.vertical){
+                verticalOwners[slot] = word.id + 1;
+            }else{
+                horizontalOwners[slot] = word.id + 1;
+            }
+
+            // let every neighbour know that this cell is now occupied, and by which alignment
+            merge(row + 1, col, TOP_OCCUPIED | (word.vertical ? 0 : TOP_HORIZONTAL));
+            merge(row - 1, col, BOTTOM_OCCUPIED | (word.vertical ? 0 : BOTTOM_HORIZONTAL));
+            merge(row, col + 1, LEFT_OCCUPIED | (word.vertical ? LEFT_VERTICAL : 0));
+            merge(row, col - 1, RIGHT_OCCUPIED | (word.vertical ? RIGHT_VERTICAL : 0));
+        }
+    }
+
+    /**
+     * Checks if a word can be placed at the given location against all the words recorded in this map. Cost is
+     * proportional to the length of the word. Same rules as the linear scan it replaces apply: a crossing must share
+     * the letter, parallel words may neither coincide nor run side by side and no word may touch the tip or the side
+     * of the word being placed. Diagonal contact is allowed.
+     * @param name name of the word to place (uppercased)
+     * @param row row of the first letter
+     * @param col column of the first letter
+     * @param vertical alignment of the word to place
+     * @return true if the placement is allowed, false otherwise
+     */
+    public boolean isPlacementAllowed(String name, int row, int col, boolean vertical){
+        int length = name.length();
+        int dRow = vertical ? 1 : 0;
+        int dCol = vertical ? 0 : 1;
+
+        // nothing may sit right before the first letter or right after the last letter
+        if ((cellAt(row - dRow, col - dCol) & LETTER_MASK) != 0 ||
+                (cellAt(row + dRow * length, col + dCol * length) & LETTER_MASK) != 0) {
+            return false;
+        }
+
+        int sameAlignment = vertical ? OWNED_VERTICALLY : OWNED_HORIZONTALLY;
+        int sidesOccupied = vertical ? (LEFT_OCCUPIED | RIGHT_OCCUPIED) : (TOP_OCCUPIED | BOTTOM_OCCUPIED);
+        int sidesParallel = vertical ? (LEFT_VERTICAL | RIGHT_VERTICAL) : (TOP_HORIZONTAL | BOTTOM_HORIZONTAL);
+
+        for (int i = 0; i < length; i++) {
+            int cell = cellAt(row + dRow * i, col + dCol * i);
+            char letter = (char) (cell & LETTER_MASK);
+
+            if (letter == 0) {
+                // an empty cell must not have anything on either side
+                if ((cell & sidesOccupied) != 0) {
+                    return false;
+                }
+            } else if ((cell & sameAlignment) != 0 || letter != name.charAt(i) || (cell & sidesParallel) != 0) {
+                // a crossing cell must be owned by a perpendicular word with the same letter, and must not have a
+                // parallel word running alongside
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** ORs the given bits into the cell at the given location, inserting the cell if needed */
+    private void merge(int row, int col, int bits){
+        long key = key(row, col);
+        int slot = slotOf(key);
+        if (keys[slot] == key && (values[slot] | bits) == values[slot]) {
+            return; // nothing changes
+        }
+        log(key);
+        if (keys[slot] == EMPTY_KEY) {
+            keys[slot] = key;
+            values[slot] = bits;
+            if (++size * 2 > keys.length) {
+                grow();
+            }
+        } else {
+            values[slot] |= bits;
+        }
+    }
+
+    /** Linear probing for the slot that holds, or should hold, the given key */
+    private int slotOf(long key){
+        int mask = keys.length - 1;
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY_KEY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int hash(long key){
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /** Doubles the capacity of the table and rehashes all the cells */
+    private void grow(){
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        int[] oldHorizontalOwners = horizontalOwners;
+        int[] oldVerticalOwners = verticalOwners;
+        keys = new long[oldKeys.length * 2];
+        values = new int[oldValues.length * 2];
+        horizontalOwners = new int[oldKeys.length * 2];
+        verticalOwners = new int[oldKeys.length * 2];
+        Arrays.fill(keys, EMPTY_KEY);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY_KEY) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                horizontalOwners[slot] = oldHorizontalOwners[i];
+                verticalOwners[slot] = oldVerticalOwners[i];
+            }
+        }
+    }
+}
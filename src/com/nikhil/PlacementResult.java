@@ -0,0 +1,52 @@
+package com.nikhil;
+
+/**
+ * Outcome of placing the words of a grid under a {@link Deadline}. A placement stopped by its deadline leaves a grid
+ * that is valid as far as it goes: every placed word sits where the rules allow, the unplaced ones are simply left
+ * out, and placing the words again later picks up from there.
+ */
+public final class PlacementResult {
+
+    private final int placedWords;
+    private final int unplacedWords;
+    private final boolean stoppedByDeadline;
+    private final long elapsedMillis;
+
+    PlacementResult(int placedWords, int unplacedWords, boolean stoppedByDeadline, long elapsedMillis) {
+        this.placedWords = placedWords;
+        this.unplacedWords = unplacedWords;
+        this.stoppedByDeadline = stoppedByDeadline;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /** @return number of words placed in the grid, including the ones placed before */
+    public int placedWords(){
+        return placedWords;
+    }
+
+    /** @return number of words left out of the grid */
+    public int unplacedWords(){
+        return unplacedWords;
+    }
+
+    /** @return true if every word is placed */
+    public boolean isComplete(){
+        return unplacedWords == 0;
+    }
+
+    /** @return true if the deadline passed before every word was placed */
+    public boolean stoppedByDeadline(){
+        return stoppedByDeadline;
+    }
+
+    /** @return time the placement took */
+    public long elapsedMillis(){
+        return elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return placedWords + " words placed, " + unplacedWords + " unplaced in " + elapsedMillis + " ms" +
+                (stoppedByDeadline ? " (deadline passed)" : "");
+    }
+}
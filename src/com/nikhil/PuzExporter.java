@@ -0,0 +1,128 @@
+package com.nikhil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Exports grids as Across Lite .puz files, version 1.3. A .puz file starts with checksums of everything after it, so
+ * unlike the text formats the file is laid out in a byte array first and written in one go. It is about twice the
+ * number of cells plus the clues in size.
+ * <p>
+ * The format holds at most 255 rows and columns, and ISO-8859-1 text. Letters outside of ISO-8859-1 can't be
+ * exported, other characters of the clues come out as question marks.
+ */
+public class PuzExporter implements GridExporter {
+
+    private static final int HEADER_SIZE = 0x34;
+    private static final byte[] MAGIC = "ACROSS&DOWN\0".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] VERSION = "1.3\0".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] MASK = "ICHEATED".getBytes(StandardCharsets.ISO_8859_1);
+    private static final int MAX_SIDE = 255;
+
+    @Override
+    public String formatName() {
+        return "puz";
+    }
+
+    @Override
+    public String fileExtension() {
+        return "puz";
+    }
+
+    @Override
+    public String contentType() {
+        return "application/x-crossword";
+    }
+
+    @Override
+    public void export(ClueNumbering numbering, OutputStream out) throws IOException {
+        int width = numbering.width();
+        int height = numbering.height();
+        if(width > MAX_SIDE || height > MAX_SIDE){
+            throw new IOException("Grid of " + width + " by " + height + " cells is larger than a .puz file holds");
+        }
+
+        byte[][] clues = new byte[numbering.clueCount()][];
+        int cluesSize = 0;
+        for (int i = 0; i < clues.length; i++) {
+            clues[i] = numbering.clue(i).getBytes(StandardCharsets.ISO_8859_1);
+            cluesSize += clues[i].length + 1;
+        }
+
+        // title, author and copyright are left empty, each only takes its terminator, and so do the notes
+        int cells = width * height;
+        int solutionAt = HEADER_SIZE;
+        int stateAt = solutionAt + cells;
+        int stringsAt = stateAt + cells;
+        byte[] file = new byte[stringsAt + 3 + cluesSize + 1];
+
+        // solution and player state, row by row
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                char letter = numbering.letterAt(row, col);
+                if(letter > 0xFF){
+                    throw new IOException("Letter " + letter + " can't be written to a .puz file");
+                }
+                int cell = row * width + col;
+                file[solutionAt + cell] = letter == 0 ? (byte) '.' : (byte) letter;
+                file[stateAt + cell] = letter == 0 ? (byte) '.' : (byte) '-';
+            }
+        }
+
+        int at = stringsAt + 3;
+        for (byte[] clue : clues) {
+            System.arraycopy(clue, 0, file, at, clue.length);
+            at += clue.length + 1;
+        }
+
+        // header, the checksums last as they cover the rest of the file
+        System.arraycopy(MAGIC, 0, file, 0x02, MAGIC.length);
+        System.arraycopy(VERSION, 0, file, 0x18, VERSION.length);
+        file[0x2C] = (byte) width;
+        file[0x2D] = (byte) height;
+        putShort(file, 0x2E, clues.length);
+        putShort(file, 0x30, 1);
+
+        int headerChecksum = checksum(file, 0x2C, 8, 0);
+        int solutionChecksum = checksum(file, solutionAt, cells, 0);
+        int stateChecksum = checksum(file, stateAt, cells, 0);
+        int stringsChecksum = cluesChecksum(clues, 0);
+
+        int fileChecksum = checksum(file, solutionAt, cells, headerChecksum);
+        fileChecksum = checksum(file, stateAt, cells, fileChecksum);
+        fileChecksum = cluesChecksum(clues, fileChecksum);
+
+        putShort(file, 0x00, fileChecksum);
+        putShort(file, 0x0E, headerChecksum);
+        int[] masked = {headerChecksum, solutionChecksum, stateChecksum, stringsChecksum};
+        for (int i = 0; i < masked.length; i++) {
+            file[0x10 + i] = (byte) (MASK[i] ^ masked[i]);
+            file[0x14 + i] = (byte) (MASK[i + 4] ^ (masked[i] >> 8));
+        }
+
+        out.write(file);
+        out.flush();
+    }
+
+    /** Checksum of the clues as a .puz file counts it, the terminators left out */
+    private static int cluesChecksum(byte[][] clues, int checksum){
+        for (byte[] clue : clues) {
+            checksum = checksum(clue, 0, clue.length, checksum);
+        }
+        return checksum;
+    }
+
+    /** The 16 bit rotating checksum of the .puz format, over a region of bytes and carrying on from a checksum */
+    static int checksum(byte[] bytes, int from, int length, int checksum){
+        for (int i = from; i < from + length; i++) {
+            checksum = (checksum >> 1 | (checksum & 1) << 15) + (bytes[i] & 0xFF) & 0xFFFF;
+        }
+        return checksum;
+    }
+
+    private static void putShort(byte[] bytes, int at, int value){
+        bytes[at] = (byte) value;
+        bytes[at + 1] = (byte) (value >> 8);
+    }
+}
@@ -0,0 +1,75 @@
+package com.nikhil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Exports grids as SVG images of the blank puzzle: a black background with a white square for every open cell and the
+ * numbers of the numbered cells in their top left corner. Clues are not part of the image. The markup is written as
+ * it goes, UTF-8 encoded.
+ */
+public class SvgExporter implements GridExporter {
+
+    /** Side of a cell, in pixels */
+    private static final int CELL = 32;
+    private static final int FONT_SIZE = 10;
+
+    @Override
+    public String formatName() {
+        return "svg";
+    }
+
+    @Override
+    public String fileExtension() {
+        return "svg";
+    }
+
+    @Override
+    public String contentType() {
+        return "image/svg+xml";
+    }
+
+    @Override
+    public void export(ClueNumbering numbering, OutputStream out) throws IOException {
+        Utf8Writer svg = new Utf8Writer(out);
+        int width = numbering.width() * CELL;
+        int height = numbering.height() * CELL;
+
+        svg.write("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"");
+        svg.writeNumber(width);
+        svg.write("\" height=\"");
+        svg.writeNumber(height);
+        svg.write("\" font-family=\"sans-serif\" font-size=\"" + FONT_SIZE + "\">\n<rect width=\"");
+        svg.writeNumber(width);
+        svg.write("\" height=\"");
+        svg.writeNumber(height);
+        svg.write("\" fill=\"#000\"/>\n");
+
+        for (int row = 0; row < numbering.height(); row++) {
+            for (int col = 0; col < numbering.width(); col++) {
+                if(numbering.letterAt(row, col) == 0){
+                    continue;
+                }
+                svg.write("<rect x=\"");
+                svg.writeNumber(col * CELL);
+                svg.write("\" y=\"");
+                svg.writeNumber(row * CELL);
+                svg.write("\" width=\"" + CELL + "\" height=\"" + CELL + "\" fill=\"#fff\" stroke=\"#000\"/>");
+
+                int number = numbering.numberAt(row, col);
+                if(number > 0){
+                    svg.write("<text x=\"");
+                    svg.writeNumber(col * CELL + 2);
+                    svg.write("\" y=\"");
+                    svg.writeNumber(row * CELL + FONT_SIZE + 1);
+                    svg.write("\">");
+                    svg.writeNumber(number);
+                    svg.write("</text>");
+                }
+                svg.write('\n');
+            }
+        }
+        svg.write("</svg>\n");
+        svg.flush();
+    }
+}
@@ -0,0 +1,95 @@
+package com.nikhil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Buffered UTF-8 text output for the text exporters. Unlike a {@link java.io.Writer} stacked on an encoder, it
+ * encodes characters straight into its byte buffer without locking or going through a char buffer first, which is
+ * most of the cost of writing a grid cell by cell. Not thread safe, each export gets its own.
+ */
+final class Utf8Writer {
+
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int position = 0;
+    /** High surrogate waiting for the low surrogate that follows it, 0 if none */
+    private char highSurrogate = 0;
+
+    Utf8Writer(OutputStream out) {
+        this.out = out;
+        this.buffer = new byte[8192];
+    }
+
+    void write(char c) throws IOException {
+        if(position + 4 > buffer.length){
+            drain();
+        }
+
+        // a surrogate pair makes a single code point of four bytes, a lone surrogate has no encoding
+        if(highSurrogate != 0){
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if(Character.isLowSurrogate(c)){
+                int codePoint = Character.toCodePoint(high, c);
+                buffer[position++] = (byte) (0xF0 | codePoint >> 18);
+                buffer[position++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                buffer[position++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                buffer[position++] = (byte) (0x80 | codePoint & 0x3F);
+                return;
+            }
+            buffer[position++] = '?';
+        }
+        if(Character.isHighSurrogate(c)){
+            highSurrogate = c;
+        }else if(Character.isLowSurrogate(c)){
+            buffer[position++] = '?';
+        }else if(c < 0x80){
+            buffer[position++] = (byte) c;
+        }else if(c < 0x800){
+            buffer[position++] = (byte) (0xC0 | c >> 6);
+            buffer[position++] = (byte) (0x80 | c & 0x3F);
+        }else{
+            buffer[position++] = (byte) (0xE0 | c >> 12);
+            buffer[position++] = (byte) (0x80 | c >> 6 & 0x3F);
+            buffer[position++] = (byte) (0x80 | c & 0x3F);
+        }
+    }
+
+    void write(String s) throws IOException {
+        for (int i = 0; i < s.length(); i++) {
+            write(s.charAt(i));
+        }
+    }
+
+    /** Writes the decimal digits of a number, without going through a string */
+    void writeNumber(int number) throws IOException {
+        if(number < 0){
+            write(Integer.toString(number));
+            return;
+        }
+        if(position + 10 > buffer.length){
+            drain();
+        }
+        int digits = 1;
+        for (int rest = number / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        for (int i = position + digits - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + number % 10);
+            number /= 10;
+        }
+        position += digits;
+    }
+
+    /** Writes out everything buffered and flushes the stream, leaving it open */
+    void flush() throws IOException {
+        drain();
+        out.flush();
+    }
+
+    private void drain() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+}
@@ -1,9 +1,9 @@
 package com.nikhil;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.LongConsumer;
 
 /** String to be inserted as part of the crossword puzzle.*/
 public class Word {
@@ -13,22 +13,60 @@ public class Word {
     int col;
     boolean vertical;
     boolean placed = false;
-    private LinkedList<IntersectionOption> unplacedIntersectionOptions = new LinkedList<>();  // empty list
+    /** Id of this word in its word list, assigned by {@link LetterIndex#attachTo(List)} */
+    int id;
+    /**
+     * Intersection options of this word, each packed in a long (see {@link IntersectionOption#pack(int, int, int, int)}).
+     * The list is never edited after it is computed: an option whose crossing word gets placed is a tombstone, and
+     * is skipped by looking at the placed flag of the crossing word.
+     */
+    private LongList unplacedIntersectionOptions = new LongList(1);  // empty list
+    /**
+     * Options are computed index by index, so the list is naturally bucketed by source index. The options at index i
+     * start at bucketStart[i] and end at bucketStart[i+1]
+     */
+    private int[] bucketStart = null;
+    /** Number of options in the list whose crossing word is still unplaced */
+    private int liveIntersectionOptions = 0;
+    /** Cell occupancy of the grid this word belongs to. Kept up to date as the word gets placed */
+    Occupancy occupancy;
+    /** Letters of the grid this word belongs to, for rendering. Kept up to date as the word gets placed */
+    GridSnapshot snapshot;
+    /** Letter frequencies of the grid this word belongs to, whose occurrence partitions follow this word's placement */
+    LetterFrequencies letterFrequencies;
+    /** Corners of the grid this word belongs to are taken from this pool, if there is one */
+    CornerPool cornerPool;
+    /** Letter index of the word list this word belongs to, used to enumerate intersection options */
+    LetterIndex letterIndex;
 
     public Word(String name, String description) {
         this.name = name.toUpperCase();
         this.description = description;
     }
 
+    /**
+     * Copies the name and description of another word, none of its placement state
+     * @param other the word to copy
+     */
+    public Word(Word other) {
+        this.name = other.name;
+        this.description = other.description;
+    }
+
     @Override
     public String toString() {
         return name + "(" + row + "," + col + "," + (vertical ? "v" : "h") + ","+(placed ? "p" : "u")+")";
     }
 
     /**
-     * Places the word in the list by setting position and placement of flag. Beyond this it also, removes itself
-     * as an intersection option from other words by looking at the crossing word's intersection options list.
-     * Once placed, the list of unplaced intersection options of this word are entirely nullified.
+     * Places the word in the list by setting position and placement of flag. Beyond this it also, retires itself
+     * as an intersection option of other words: since intersection options are symmetric, every option of this word
+     * with an unplaced crossing word stands for exactly one option of that crossing word which now becomes a
+     * tombstone, so the live count of the crossing word is brought down without touching its list. This costs as much
+     * as the number of options involving this word. The options of this word are kept, so that corners can still look
+     * for unplaced words crossing it. Finally, the cells covered by this word are recorded in the occupancy and in the
+     * snapshot of the grid (if any) and its letters move over to the placed occurrences of the letter frequencies (if
+     * any).
      * @param row row of the first letter of this word
      * @param col col of the first letter of this word
      * @param vertical alignment of the word
@@ -39,34 +77,66 @@ public class Word {
         this.vertical = vertical;
         this.placed = true;
 
-        Word lastWord = null;
-        // remove all intersection options where this word is the crossing word
-        for(IntersectionOption intersectionOption : this.unplacedIntersectionOptions){
-
-            // check for unique words with which it is intersecting
-            if(intersectionOption.crossing != lastWord && intersectionOption.crossing.unplacedIntersectionOptions!=null){
+        for(int i = 0; i < this.unplacedIntersectionOptions.size(); i++){
 
-                // iterate across the list of the crossing word and eliminate every option that has this
-                // word present as the crossing word
-                Iterator<IntersectionOption> crossingWordIntersectionOptions = intersectionOption.crossing.unplacedIntersectionOptions.iterator();
-                while(crossingWordIntersectionOptions.hasNext()){
+            // only unplaced crossing words keep count of their live options
+            Word crossing = this.letterIndex.wordAt(IntersectionOption.crossingIdOf(this.unplacedIntersectionOptions.get(i)));
+            if(!crossing.placed){
+                crossing.liveIntersectionOptions--;
+            }
+        }
 
-                    // when two words intersect, they appear on both the words list. They are thus symmetric
-                    IntersectionOption symmetricIntersectionOption = crossingWordIntersectionOptions.next();
+        // record the cells covered by this word so that later placement checks don't need to scan the word list
+        if(this.occupancy!=null){
+            this.occupancy.add(this);
+        }
+        if(this.snapshot!=null){
+            this.snapshot.add(this);
+        }
+        if(this.letterFrequencies!=null){
+            this.letterFrequencies.onPlaced(this);
+        }
+    }
 
-                    // check if the crossing word of the other word's intersection option is this word. if so, remove
-                    if(symmetricIntersectionOption.crossing==this){
-                        crossingWordIntersectionOptions.remove();
-                    }
-                }
+    /**
+     * Takes back the placement of this word, the reverse of {@link #placeAt(int, int, boolean)}: crossing words get
+     * their live options back and the letters of this word move back to the unplaced occurrences. Placements must be
+     * taken back in the reverse order they were made in, so that the same crossing words are unplaced as when this
+     * word got placed. The cells of the occupancy are left alone, they are rolled back through its undo log, and so is
+     * the snapshot, which is to be rebuilt once the placements settle.
+     */
+    void unplace(){
+        this.placed = false;
 
-                // there might by multiple intersection options with this word, but we remove all of them in one go
-                lastWord = intersectionOption.crossing;
+        for(int i = 0; i < this.unplacedIntersectionOptions.size(); i++){
+            Word crossing = this.letterIndex.wordAt(IntersectionOption.crossingIdOf(this.unplacedIntersectionOptions.get(i)));
+            if(!crossing.placed){
+                crossing.liveIntersectionOptions++;
             }
         }
 
-        //once this word is placed, we intentionally nullify unplaced intersection options list
-        this.unplacedIntersectionOptions = null;
+        if(this.letterFrequencies!=null){
+            this.letterFrequencies.onUnplaced(this);
+        }
+    }
+
+    /** @return number of intersection options of this word, tombstones included */
+    int intersectionOptionCount(){
+        return this.unplacedIntersectionOptions.size();
+    }
+
+    /** @return the packed intersection option at the given position of the list of this word, tombstone or not */
+    long intersectionOptionAt(int i){
+        return this.unplacedIntersectionOptions.get(i);
+    }
+
+    /**
+     * Checks if a packed intersection option of this word is still available, i.e. its crossing word is unplaced
+     * @param option a packed intersection option from the list of this word
+     * @return false if the option is a tombstone
+     */
+    private boolean isAvailable(long option){
+        return !this.letterIndex.wordAt(IntersectionOption.crossingIdOf(option)).placed;
     }
 
     /**
@@ -107,36 +177,38 @@ public class Word {
      * @param start the start index of the range
      * @param length length of the range starting from the starting index
      * @return list of intersection options for the given range of indices
+     * @throws IllegalArgumentException if this word is already indexed with a different word list
      */
     public LinkedList<IntersectionOption> findAllIntersectionOptions(List<Word> wordList,boolean amongstPlacedWordsOnly, int start,int length){
 
         LinkedList <IntersectionOption> intersectionOptions = new LinkedList<>();
 
+        // words of a list share one index, attached the first time it is needed. Indexing another list on every call
+        // would be as slow as the scan the index replaces, so a list other than the one indexed is refused
+        if(this.letterIndex==null){
+            LetterIndex.attachTo(wordList);
+        }else if(!this.letterIndex.isBuiltFrom(wordList)){
+            throw new IllegalArgumentException(this.name + " is indexed with another word list");
+        }
+        LetterIndex index = this.letterIndex;
+
         for(int i = start; (i < start + length) && (i < this.name.length()); i++){
 
+            // every occurrence of the current character in the word list is an intersection
             char current = this.name.charAt(i);
+            int end = index.endOfOccurrences(current);
+            for(int k = index.firstOccurrence(current); k < end; k++){
 
-            // find intersecting words for this character
-            for(Word word : wordList){
+                int occurrence = index.occurrenceAt(k);
+                Word word = index.wordAt(LetterIndex.wordIdOf(occurrence));
 
                 // skip word if its unplaced and we only need to check against placed words, also skip this word itself
                 if((!word.placed && amongstPlacedWordsOnly)||(word==this)){
                     continue;
                 }
 
-                //find all indices of the current character and for each create a new intersection option for this word
-                int wordLength = word.name.length();
-                for(int j=0;j<wordLength;j++){
-
-                    //if the letters of the two words match, it means there is an intersection
-                    if(word.name.charAt(j)==current){
-
-                        //create and add a new intersection option
-                        intersectionOptions.add(new IntersectionOption(this,i,word,j));
-                    }
-                }
-
-
+                //create and add a new intersection option
+                intersectionOptions.add(new IntersectionOption(this,i,word,LetterIndex.positionOf(occurrence)));
             }
         }
 
@@ -274,18 +346,38 @@ public class Word {
 
     /**
      * Finds all corners amongst the placed words in the list. Corners are identified by the right angles formed in the
-     * intersection of two crossing words.
+     * intersection of two crossing words. Only the words actually crossing this (placed) word make corners with it.
+     * With an occupancy, they are read straight off the cells covered by this word, at a cost proportional to its
+     * length. Without one, the placed words of the list sharing a letter with this word are checked for crossing it.
      * @param wordList A full list of words.Only placed words will be checked against for intersections
      * @return List of corners amongst the already placed words in the grid. If no corners are present, the list will
      * be of size 0
      */
     public LinkedList<Corner> findAllCorners(List<Word> wordList){
         LinkedList<Corner> cornerList = new LinkedList<>();
-        List<IntersectionOption> gridIntersections=this.findAllIntersectionOptions(wordList,true);
 
-        for(IntersectionOption intersectionOption : gridIntersections){
-            List<Corner> cornersFromThisIntersection = intersectionOption.computeCorners();
-            cornerList.addAll(cornersFromThisIntersection);
+        if(this.occupancy!=null && this.letterIndex!=null){
+            for(int i = 0; i < this.name.length(); i++){
+                int row = this.vertical ? this.row + i : this.row;
+                int col = this.vertical ? this.col : this.col + i;
+
+                // a crossing word runs perpendicular to this word through one of its cells
+                int crossingId = this.occupancy.ownerAt(row, col, !this.vertical);
+                if(crossingId>=0){
+                    Word crossing = this.letterIndex.wordAt(crossingId);
+                    int crossingIndex = crossing.vertical ? row - crossing.row : col - crossing.col;
+                    cornerList.addAll(new IntersectionOption(this,i,crossing,crossingIndex).computeCorners(this.cornerPool));
+                }
+            }
+            return cornerList;
+        }
+
+        for(IntersectionOption intersectionOption : this.findAllIntersectionOptions(wordList,true)){
+            Word crossing = intersectionOption.crossing;
+            Location crossingLocation = intersectionOption.projectedLocationOfCrossingWord();
+            if(crossing.vertical!=this.vertical && crossing.row==crossingLocation.row && crossing.col==crossingLocation.col){
+                cornerList.addAll(intersectionOption.computeCorners(this.cornerPool));
+            }
         }
 
         return cornerList;
@@ -293,23 +385,76 @@ public class Word {
 
     /**
      * Finds intersection options amongst all words including placed words. This method is intended to be used at the
-     * beginning of the placement algorithm
+     * beginning of the placement algorithm. Options are kept packed in a primitive array, so no
+     * {@link IntersectionOption} is allocated here. If the words of the list don't share a letter index yet, one is
+     * attached to them.
      * @param wordList the list of words in the grid
      */
     public void computeIntersectionOptions(List<Word> wordList){
-        this.unplacedIntersectionOptions = this.findAllIntersectionOptions(wordList,false);
+        if(this.letterIndex==null || !this.letterIndex.isBuiltFrom(wordList)){
+            LetterIndex.attachTo(wordList);
+        }
+
+        // every occurrence of a letter of this word, its own ones aside, makes an option: sized once, never grown
+        int capacity = 0;
+        for(int i = 0; i < this.name.length(); i++){
+            capacity += this.letterIndex.frequencyOf(this.name.charAt(i));
+        }
+        LongList intersectionOptions = new LongList(Math.max(capacity, 1));
+        int[] bucketStart = new int[this.name.length() + 1];
+        for(int i = 0; i < this.name.length(); i++){
+            bucketStart[i] = intersectionOptions.size();
+
+            // every occurrence of this letter in another word is an intersection option
+            char current = this.name.charAt(i);
+            int end = this.letterIndex.endOfOccurrences(current);
+            for(int k = this.letterIndex.firstOccurrence(current); k < end; k++){
+
+                int occurrence = this.letterIndex.occurrenceAt(k);
+                int crossingId = LetterIndex.wordIdOf(occurrence);
+                if(crossingId != this.id){
+                    intersectionOptions.add(IntersectionOption.pack(this.id,i,crossingId,LetterIndex.positionOf(occurrence)));
+                }
+            }
+        }
+
+        bucketStart[this.name.length()] = intersectionOptions.size();
+
+        this.unplacedIntersectionOptions = intersectionOptions;
+        this.bucketStart = bucketStart;
+
+        // options with words that are already placed are tombstones right away
+        this.liveIntersectionOptions = 0;
+        for(int i = 0; i < intersectionOptions.size(); i++){
+            if(isAvailable(intersectionOptions.get(i))){
+                this.liveIntersectionOptions++;
+            }
+        }
     }
 
     /**
      * Returns total unplaced intersections
-     * @return Placed words return 0 despite their intersection option list being nullified.
+     * @return Placed words return 0 despite their intersection option list being retained.
      * Unplaced words return size of the total number of intersection options available
      */
     public int getTotalIntersections(){
-        if(this.unplacedIntersectionOptions==null){
+        if(this.placed){
             return 0;
         }else{
-            return this.unplacedIntersectionOptions.size();
+            return this.liveIntersectionOptions;
+        }
+    }
+
+    /**
+     * Walks the available intersection options of this word in their packed form, without allocating
+     * @param consumer receives each packed intersection option, see {@link IntersectionOption#pack(int, int, int, int)}
+     */
+    public void forEachIntersectionOption(LongConsumer consumer){
+        for(int i = 0; i < this.unplacedIntersectionOptions.size(); i++){
+            long option = this.unplacedIntersectionOptions.get(i);
+            if(isAvailable(option)){
+                consumer.accept(option);
+            }
         }
     }
 
@@ -319,9 +464,16 @@ public class Word {
      * @return null if no intersection option exist, otherwise the intersection option itself
      */
     public IntersectionOption intersectsWtih(Word word){
-        for(IntersectionOption intersectionOption : this.unplacedIntersectionOptions){
-            if(intersectionOption.crossing == word){
-                return intersectionOption;
+
+        // options with a placed word are all tombstones
+        if(word.placed){
+            return null;
+        }
+
+        for(int i = 0; i < this.unplacedIntersectionOptions.size(); i++){
+            long option = this.unplacedIntersectionOptions.get(i);
+            if(IntersectionOption.crossingIdOf(option) == word.id){
+                return IntersectionOption.unpack(option, this.letterIndex);
             }
         }
         return null;
@@ -334,42 +486,80 @@ public class Word {
      * @return index from the projection. -1 if the projection is not within the range.
      */
     public int projectingIndex(Location point){
+        return projectingIndex(point.row, point.col);
+    }
+
+    /**
+     * Same as {@link #projectingIndex(Location)}, for a point given by its row and column
+     * @param row row of the point
+     * @param col column of the point
+     * @return index from the projection. -1 if the projection is not within the range.
+     */
+    public int projectingIndex(int row, int col){
         if(!this.placed){
             throw new RuntimeException("Trying to find projecting index while the word is not placed");
         }
 
         int index = -1;
         if (this.vertical){
-            if (point.row >= this.row && point.row < (this.row + this.name.length())) { // within range
-                index = point.row - this.row;
+            if (row >= this.row && row < (this.row + this.name.length())) { // within range
+                index = row - this.row;
             }
         } else {
-            if (point.col >= this.col && point.col < (this.col + this.name.length())) { //within range
-                index = point.col - this.col;
+            if (col >= this.col && col < (this.col + this.name.length())) { //within range
+                index = col - this.col;
             }
         }
         return index;
     }
 
     /**
-     * Collects all the intersection options at an index amongst the list of unplaced intersection options.
-     * @param index the index at which all the intersection options are to be found
-     * @return a linked list of available intersection options at the given index
+     * Checks if any intersection option at an index is still available, without going through the rest of them
+     * @param index index of a letter of this word
+     * @return true if an unplaced word crosses this word at that index, false if there is none or the index lies
+     * outside this word
      */
-    public LinkedList<IntersectionOption> getAvailableIntersectionOptionsAt(int index){
-        LinkedList<IntersectionOption> availableIntersections = new LinkedList<>();
-
-        //scan the list
-        for(IntersectionOption intersectionOption : this.unplacedIntersectionOptions){
+    public boolean hasAvailableIntersectionOptionsAt(int index){
+        if(this.bucketStart==null || index<0 || index>=this.name.length()){
+            return false;
+        }
+        for(int i = this.bucketStart[index]; i < this.bucketStart[index+1]; i++){
+            if(isAvailable(this.unplacedIntersectionOptions.get(i))){
+                return true;
+            }
+        }
+        return false;
+    }
 
-            // if the source index matches,
-            if(intersectionOption.sourceIndex==index){
+    /**
+     * Gives all the intersection options at an index amongst the list of unplaced intersection options. Nothing is
+     * copied, the returned view reads straight from the bucket of that index. Options whose crossing word is placed
+     * are still present in the view and must be skipped using {@link IntersectionOptionView#isAvailable(int)}.
+     * @param index the index at which all the intersection options are to be found
+     * @return a read only view of the intersection options at the given index, empty if the index is outside the word
+     * or intersection options haven't been computed
+     */
+    public IntersectionOptionView getAvailableIntersectionOptionsAt(int index){
+        if(this.bucketStart==null || index<0 || index>=this.name.length()){
+            return IntersectionOptionView.EMPTY;
+        }
+        return viewIntersectionOptionsAt(index,new IntersectionOptionView());
+    }
 
-                // add them to the collection
-                availableIntersections.add(intersectionOption);
-            }
+    /**
+     * Same as {@link #getAvailableIntersectionOptionsAt(int)}, pointing a view the caller reuses at the options
+     * @param index the index at which all the intersection options are to be found
+     * @param view the view to point at the intersection options, emptied if there are none at that index
+     * @return the given view
+     */
+    IntersectionOptionView viewIntersectionOptionsAt(int index, IntersectionOptionView view){
+        if(this.bucketStart==null || index<0 || index>=this.name.length()){
+            view.reset(null,null,0,0);
+        }else{
+            view.reset(this.letterIndex,this.unplacedIntersectionOptions,
+                    this.bucketStart[index],this.bucketStart[index+1]);
         }
-        return availableIntersections;
+        return view;
     }
 
 }
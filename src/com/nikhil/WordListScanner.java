@@ -0,0 +1,315 @@
+package com.nikhil;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads a word list straight out of a memory mapped file. Each record holds a word and its description separated by
+ * a comma or a tab, whichever comes first in the file, and ends at a line break. The description is the rest of the
+ * record, so it may contain further delimiters. Either field may be quoted, by a quote as its first non blank byte, in
+ * which case it may also contain line breaks and doubled quotes stand for a single quote. Quotes inside an unquoted
+ * field are kept as they are. Unquoted fields are trimmed and blank lines are skipped.
+ * <p>
+ * Records are scanned byte by byte in the mapped file; no line or field is copied into a String of its own. Only the
+ * final name and description of every word are decoded (as UTF-8), so the file can be far larger than the heap.
+ * Files larger than a single mapping are read through consecutive windows. A word list that is in memory already is
+ * scanned the same way, straight out of its buffer.
+ */
+public class WordListScanner {
+
+    /** Receives the words of a word list as they are scanned */
+    public interface WordFound {
+        /**
+         * @param name the word, as written in the file
+         * @param description description of the word
+         */
+        void onWord(String name, String description);
+    }
+
+    /** Largest part of the file mapped at once. A single record must fit in it */
+    static final int WINDOW_SIZE = 1 << 30;
+
+    private static final byte QUOTE = '"';
+    private static final byte NO_DELIMITER = 0;
+
+    private final Path path;
+    /** Name of the word list in error messages */
+    private final String source;
+    private final int windowSize;
+
+    /** Delimiter of the file, found in the first record */
+    private byte delimiter = NO_DELIMITER;
+    /** Line of the record being scanned, for error messages */
+    private long line = 1;
+
+    /** Bytes of a field being decoded, reused for every field */
+    private byte[] scratch = new byte[256];
+    private int scratchLength;
+
+    // bounds of the last field scanned, as positions in the current window
+    private int fieldEnd;
+    private boolean fieldQuoted;
+
+    public WordListScanner(Path path) {
+        this(path, WINDOW_SIZE);
+    }
+
+    WordListScanner(Path path, int windowSize) {
+        this(path, String.valueOf(path), windowSize);
+    }
+
+    private WordListScanner(Path path, String source, int windowSize) {
+        this.path = path;
+        this.source = source;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Scans every record of a word list that is in memory already, such as one received over the network
+     * @param bytes the word list, from the position to the limit of the buffer, which are left as they are
+     * @param source name of the word list in error messages
+     * @param handler called once for every word, in order
+     * @throws IOException if a record is malformed
+     */
+    static void scan(ByteBuffer bytes, String source, WordFound handler) throws IOException {
+        ByteBuffer list = bytes.slice();
+        WordListScanner scanner = new WordListScanner(null, source, list.limit());
+        scanner.scanWindow(list, skipByteOrderMark(list), list.limit(), true, handler);
+    }
+
+    /**
+     * Scans every record of the file
+     * @param handler called once for every word, in file order
+     * @throws IOException if the file can't be read or a record is malformed
+     */
+    public void scan(WordFound handler) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long windowStart = 0;
+
+            while (windowStart < size) {
+                int length = (int) Math.min(windowSize, size - windowStart);
+                boolean last = windowStart + length == size;
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, length);
+
+                int position = windowStart == 0 ? skipByteOrderMark(window) : 0;
+                int consumed = scanWindow(window, position, length, last, handler);
+                if (consumed == 0 && !last) {
+                    throw new IOException("Line " + line + " of " + source + " is longer than " + windowSize + " bytes");
+                }
+                windowStart += consumed;
+            }
+        }
+    }
+
+    /**
+     * Scans the complete records of a window
+     * @return number of bytes consumed. Unless this is the last window, a record cut off by the end of the window is
+     * left for the next window
+     */
+    private int scanWindow(ByteBuffer window, int position, int length, boolean last, WordFound handler)
+            throws IOException {
+        int recordStart = position;
+        long recordLine = line;
+
+        while (position < length) {
+            int recordEnd = endOfRecord(window, position, length);
+            if (recordEnd == length && !last) {
+                // the record may go on in the next window, scan it again from its start there
+                line = recordLine;
+                return recordStart;
+            }
+
+            scanRecord(window, position, recordEnd, handler);
+            position = skipLineBreak(window, recordEnd, length);
+            recordStart = position;
+            recordLine = line;
+        }
+        return length;
+    }
+
+    /**
+     * @return position of the line break ending the record that begins at the given position, or the end. Only a
+     * quote opening a field starts a quoted part, a quote anywhere else is part of the text
+     */
+    private int endOfRecord(ByteBuffer window, int position, int end) {
+        boolean inDescription = false;
+        int i = skipBlanks(window, position, end);
+        while (i < end) {
+            if (window.get(i) == QUOTE) {
+                i = endOfQuotedField(window, i + 1, end);
+            }
+            for (; i < end; i++) {
+                byte b = window.get(i);
+                if (b == '\n' || b == '\r') {
+                    return i;
+                } else if (!inDescription && isDelimiter(b)) {
+                    break;
+                }
+            }
+            if (i == end) {
+                break;
+            }
+
+            // the description starts after the first delimiter and runs to the end of the record
+            inDescription = true;
+            i = skipBlanks(window, i + 1, end);
+        }
+        return end;
+    }
+
+    /** @return position after the quote closing a quoted field, doubled quotes inside it being escaped quotes */
+    private static int endOfQuotedField(ByteBuffer window, int position, int end) {
+        for (int i = position; i < end; i++) {
+            if (window.get(i) == QUOTE) {
+                if (i + 1 < end && window.get(i + 1) == QUOTE) {
+                    i++;
+                } else {
+                    return i + 1;
+                }
+            }
+        }
+        return end;
+    }
+
+    private boolean isDelimiter(byte b) {
+        return delimiter == NO_DELIMITER ? b == ',' || b == '\t' : b == delimiter;
+    }
+
+    /** @return position after the line break at the given position */
+    private int skipLineBreak(ByteBuffer window, int position, int end) {
+        if (position < end && window.get(position) == '\r') {
+            position++;
+        }
+        if (position < end && window.get(position) == '\n') {
+            position++;
+        }
+        line++;
+        return position;
+    }
+
+    private void scanRecord(ByteBuffer window, int start, int end, WordFound handler) throws IOException {
+        start = skipBlanks(window, start, end);
+        if (start == end) {
+            return;
+        }
+        if (delimiter == NO_DELIMITER) {
+            delimiter = findDelimiter(window, start, end);
+        }
+
+        // the name ends at the first delimiter
+        scanField(window, start, end, true);
+        String name = decode();
+        int position = skipBlanks(window, fieldEnd, end);
+        if (position == end || window.get(position) != delimiter) {
+            throw new IOException("Line " + line + " of " + source + " has no description");
+        }
+
+        // the description is the rest of the record
+        scanField(window, skipBlanks(window, position + 1, end), end, false);
+        String description = decode();
+        if (fieldQuoted && skipBlanks(window, fieldEnd, end) != end) {
+            throw new IOException("Line " + line + " of " + source + " has text after its quoted description");
+        }
+
+        if (name.isEmpty()) {
+            throw new IOException("Line " + line + " of " + source + " has no word");
+        }
+        handler.onWord(name, description);
+    }
+
+    /**
+     * Copies a field into {@link #scratch}, removing its quotes or its trailing blanks
+     * @param start position of the first non blank byte of the field
+     * @param end end of the record
+     * @param stopAtDelimiter true if the field ends at the next delimiter, false if it runs to the end of the record
+     */
+    private void scanField(ByteBuffer window, int start, int end, boolean stopAtDelimiter) {
+        scratchLength = 0;
+        fieldQuoted = start < end && window.get(start) == QUOTE;
+
+        if (fieldQuoted) {
+            int i = start + 1;
+            while (i < end) {
+                byte b = window.get(i++);
+                if (b == QUOTE) {
+                    if (i < end && window.get(i) == QUOTE) {
+                        // doubled quote
+                        i++;
+                    } else {
+                        break;
+                    }
+                } else if (b == '\n') {
+                    line++;
+                }
+                append(b);
+            }
+            fieldEnd = i;
+            return;
+        }
+
+        int i = start;
+        int lastNonBlank = 0;
+        while (i < end) {
+            byte b = window.get(i);
+            if (stopAtDelimiter && b == delimiter) {
+                break;
+            }
+            append(b);
+            i++;
+            if (b != ' ' && b != '\t') {
+                lastNonBlank = scratchLength;
+            }
+        }
+        scratchLength = lastNonBlank;
+        fieldEnd = i;
+    }
+
+    /** @return the delimiter of the first record: a comma or a tab, whichever comes first outside a quoted word */
+    private byte findDelimiter(ByteBuffer window, int start, int end) throws IOException {
+        int i = window.get(start) == QUOTE ? endOfQuotedField(window, start + 1, end) : start;
+        for (; i < end; i++) {
+            byte b = window.get(i);
+            if (b == ',' || b == '\t') {
+                return b;
+            }
+        }
+        throw new IOException("Line " + line + " of " + source + " has no description");
+    }
+
+    private int skipBlanks(ByteBuffer window, int position, int end) {
+        while (position < end) {
+            byte b = window.get(position);
+            if ((b != ' ' && b != '\t') || b == delimiter) {
+                break;
+            }
+            position++;
+        }
+        return position;
+    }
+
+    private static int skipByteOrderMark(ByteBuffer window) {
+        if (window.limit() >= 3 && window.get(0) == (byte) 0xEF && window.get(1) == (byte) 0xBB &&
+                window.get(2) == (byte) 0xBF) {
+            return 3;
+        }
+        return 0;
+    }
+
+    private void append(byte b) {
+        if (scratchLength == scratch.length) {
+            scratch = Arrays.copyOf(scratch, scratch.length * 2);
+        }
+        scratch[scratchLength++] = b;
+    }
+
+    private String decode() {
+        return new String(scratch, 0, scratchLength, StandardCharsets.UTF_8);
+    }
+}
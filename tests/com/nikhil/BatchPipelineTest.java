@@ -0,0 +1,78 @@
+package com.nikhil;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchPipelineTest {
+
+    private static Dictionary dictionary() {
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(new Word("Mars","Fourth Planet"));
+        wordList.add(new Word("Earth","Third Planet"));
+        wordList.add(new Word("August","Eighth month"));
+        wordList.add(new Word("Mugger","A person who attacks and robs another in a public place"));
+        wordList.add(new Word("Tapestry","Used in reference to an intricate or complex sequence of events"));
+        wordList.add(new Word("Harmony","The quality of forming a pleasing and consistent whole"));
+        wordList.add(new Word("Romantic","Conducive to or characterized by the expression of love"));
+        wordList.add(new Word("Transparent","Allowing light to pass through"));
+        return new Dictionary(wordList);
+    }
+
+    @Test
+    void sample() {
+        Dictionary dictionary = dictionary();
+
+        // distinct words, the same ones for the same seed
+        LinkedList<Word> sample = dictionary.sample(5, new Random(3));
+        Set<String> names = new HashSet<>();
+        for (Word word : sample) {
+            names.add(word.name);
+        }
+        assertEquals(5, names.size());
+        assertEquals(sample.toString(), dictionary.sample(5, new Random(3)).toString());
+        assertEquals(8, dictionary.sample(8, new Random(3)).size());
+    }
+
+    @Test
+    void run() throws IOException, InterruptedException {
+
+        // queues shorter than the batch, so that every stage has to wait on the next one at some point
+        BatchPipeline pipeline = new BatchPipeline(dictionary(), 5, 40, 3, 2, 11);
+        final Set<Long> numbers = new HashSet<>();
+        pipeline.run(new BatchPipeline.PuzzleWriter() {
+            @Override
+            public void write(long number, Grid grid) {
+                assertEquals(5, grid.placedWordCount());
+                numbers.add(number);
+            }
+        });
+
+        assertEquals(40, numbers.size());
+        assertEquals(40, pipeline.reading().puzzles());
+        assertEquals(40, pipeline.placing().puzzles());
+        assertEquals(40, pipeline.writing().puzzles());
+        assertTrue(pipeline.writing().throughput() > 0);
+    }
+
+    @Test
+    void writerFailure() {
+        BatchPipeline pipeline = new BatchPipeline(dictionary(), 5, 1000, 2, 2, 11);
+
+        // the pipeline stops with the failure of the writer, without going through the rest of the batch
+        IOException failure = assertThrows(IOException.class, () -> pipeline.run(new BatchPipeline.PuzzleWriter() {
+            @Override
+            public void write(long number, Grid grid) throws IOException {
+                throw new IOException("disk full");
+            }
+        }));
+        assertEquals("disk full", failure.getMessage());
+        assertTrue(pipeline.reading().puzzles() < 1000);
+    }
+}
@@ -0,0 +1,129 @@
+package com.nikhil;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CornerQueueTest {
+
+    @Test
+    void pollSkipsDuplicatesAndFilledCorners() {
+
+        // data setup
+        Word earth = new Word("Earth","Third Planet");
+        Word tea = new Word("Tea","Hot drink");
+        Word mars = new Word("Mars","Fourth Planet");
+        Word hat = new Word("Hat","Head cover");
+
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(earth);
+        wordList.add(tea);
+        wordList.add(mars);
+        wordList.add(hat);
+        new Grid(wordList);
+        for (Word word : wordList) {
+            word.computeIntersectionOptions(wordList);
+        }
+
+        // TEA hangs down from the T of EARTH, leaving a corner on either side of TEA below EARTH
+        earth.placeAt(0,0,false);
+        tea.placeAt(0,3,true);
+        List<Corner> corners = tea.findAllCorners(wordList);
+        assertEquals(2, corners.size());
+
+        CornerQueue cornerQueue = new CornerQueue();
+        cornerQueue.addAll(corners);
+        assertEquals(2, cornerQueue.size());
+
+        // the same corners again are dropped
+        cornerQueue.addAll(tea.findAllCorners(wordList));
+        assertEquals(2, cornerQueue.size());
+
+        // most promising first. MARS or HAT cross the A and R of EARTH and the T and A of TEA on the left, while only the
+        // H of EARTH and the T and A of TEA face the right
+        Corner first = cornerQueue.poll();
+        assertEquals(Direction.BOTTOM_LEFT, first.getDirection());
+        assertEquals(4, first.expectedYield());
+        Corner second = cornerQueue.poll();
+        assertEquals(Direction.BOTTOM_RIGHT, second.getDirection());
+        assertEquals(3, second.expectedYield());
+        assertNull(cornerQueue.poll());
+        assertTrue(cornerQueue.isEmpty());
+
+        // queued before, so dropped, until the queue is cleared
+        cornerQueue.addAll(tea.findAllCorners(wordList));
+        assertTrue(cornerQueue.isEmpty());
+        cornerQueue.clear();
+        cornerQueue.addAll(tea.findAllCorners(wordList));
+        assertEquals(2, cornerQueue.size());
+        cornerQueue.clear();
+        assertTrue(cornerQueue.isEmpty());
+        assertNull(cornerQueue.poll());
+    }
+
+    @Test
+    void pollDropsCornersOfAFinishedGrid() {
+
+        // data setup
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(new Word("Earth","Third Planet"));
+        wordList.add(new Word("Tea","Hot drink"));
+        wordList.add(new Word("Mars","Fourth Planet"));
+        wordList.add(new Word("Hat","Head cover"));
+        Grid grid = new Grid(wordList);
+        grid.placeWords();
+        assertEquals(wordList.size(), grid.placedWordCount());
+
+        // once every word is placed, no corner has anything left to find
+        CornerQueue cornerQueue = new CornerQueue();
+        for (Word word : wordList) {
+            cornerQueue.addAll(word.findAllCorners(wordList));
+        }
+        assertNull(cornerQueue.poll());
+        assertTrue(cornerQueue.isEmpty());
+    }
+
+    @Test
+    void droppedCornersGoBackToThePool() {
+
+        // data setup
+        Word earth = new Word("Earth","Third Planet");
+        Word tea = new Word("Tea","Hot drink");
+        Word hat = new Word("Hat","Head cover");
+
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(earth);
+        wordList.add(tea);
+        wordList.add(hat);
+        new Grid(wordList);
+        for (Word word : wordList) {
+            word.computeIntersectionOptions(wordList);
+        }
+        CornerPool cornerPool = new CornerPool();
+        for (Word word : wordList) {
+            word.cornerPool = cornerPool;
+        }
+
+        // TEA hangs down from the T of EARTH
+        earth.placeAt(0,0,false);
+        tea.placeAt(0,3,true);
+        CornerQueue cornerQueue = new CornerQueue(cornerPool);
+        cornerQueue.addAll(tea.findAllCorners(wordList));
+        int created = cornerPool.created();
+        assertEquals(created, cornerQueue.size() + cornerPool.available());
+
+        // the same corners again are dropped into the pool, and handed out from there the next time
+        int queued = cornerQueue.size();
+        cornerQueue.addAll(tea.findAllCorners(wordList));
+        assertEquals(queued, cornerQueue.size());
+        int available = cornerPool.available();
+        assertTrue(available > 0);
+        created = cornerPool.created();
+        cornerQueue.addAll(tea.findAllCorners(wordList));
+        assertEquals(created, cornerPool.created());
+        assertEquals(available, cornerPool.available());
+    }
+}
@@ -0,0 +1,137 @@
+package com.nikhil;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CornerTest {
+
+    /** @return number of points the corner visits until its scan ends */
+    private static int scan(Corner corner) {
+        int visits = 0;
+        while (corner.moveToNextIfPossible()) {
+            visits++;
+        }
+        return visits;
+    }
+
+    @Test
+    void moveToNextIfPossible() {
+
+        // HAT hanging down from the H of HOUSE, both placed as the corners require
+        Word house = new Word("House","A building for people to live in");
+        Word hat = new Word("Hat","Head cover");
+        house.placeAt(0,0,false);
+        hat.placeAt(0,0,true);
+        IntersectionOption intersection = new IntersectionOption(house,0,hat,0);
+
+        // every direction scans 3 rows of 4 columns next to its initial point, and then starts over
+        Corner bottomRight = new Corner(new Location(0,0),Direction.BOTTOM_RIGHT,3,5,intersection);
+        assertEquals(12, scan(bottomRight));
+        assertEquals(12, scan(bottomRight));
+        assertEquals(12, scan(new Corner(new Location(4,0),Direction.TOP_RIGHT,1,5,intersection)));
+        assertEquals(12, scan(new Corner(new Location(0,4),Direction.BOTTOM_LEFT,3,-1,intersection)));
+        assertEquals(12, scan(new Corner(new Location(4,4),Direction.TOP_LEFT,1,-1,intersection)));
+    }
+
+    @Test
+    void moveToNextIfPossibleSkipsDeadRows() {
+
+        // TACT can only cross the A and T of HAT, so only the rows of those two letters are live
+        Word house = new Word("House","A building for people to live in");
+        Word hat = new Word("Hat","Head cover");
+        Word tact = new Word("Tact","Skill in dealing with others");
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(house);
+        wordList.add(hat);
+        wordList.add(tact);
+        new Grid(wordList);
+        for (Word word : wordList) {
+            word.computeIntersectionOptions(wordList);
+        }
+        house.placeAt(0,0,false);
+        hat.placeAt(0,0,true);
+        IntersectionOption intersection = new IntersectionOption(house,0,hat,0);
+
+        // 40 rows of 4 columns below HOUSE: the first point, as nothing was visited yet, then the rows of A and T
+        Corner bottomRight = new Corner(new Location(0,0),Direction.BOTTOM_RIGHT,40,5,intersection);
+        List<Long> visited = new ArrayList<>();
+        while (bottomRight.moveToNextIfPossible()) {
+            visited.add(bottomRight.target());
+        }
+        assertEquals(9, visited.size());
+        assertEquals(Location.pack(0,1), (long) visited.get(0));
+        for (int i = 0; i < 4; i++) {
+            assertEquals(Location.pack(1,1 + i), (long) visited.get(1 + i));
+            assertEquals(Location.pack(2,1 + i), (long) visited.get(5 + i));
+        }
+
+        // the 37 dead rows below are jumped over at once instead of being stepped through point by point
+        assertTrue(bottomRight.moves() <= visited.size() + 3);
+        assertEquals(Location.pack(0,0), bottomRight.target());
+    }
+
+    @Test
+    void findPossibleIntersections() {
+
+        // data setup
+        Word house = new Word("House","A building for people to live in");
+        Word hat = new Word("Hat","Head cover");
+        Word urn = new Word("Urn","A tall vase");
+        Word uno = new Word("Uno","One, in Spanish");
+        Word ten = new Word("Ten","Number after nine");
+        Word tea = new Word("Tea","Hot drink");
+
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(house);
+        wordList.add(hat);
+        wordList.add(urn);
+        wordList.add(uno);
+        wordList.add(ten);
+        wordList.add(tea);
+        new Grid(wordList);
+        for (Word word : wordList) {
+            word.computeIntersectionOptions(wordList);
+        }
+
+        // HAT hangs down from the H of HOUSE, leaving a corner to their bottom right
+        house.placeAt(0,0,false);
+        hat.placeAt(0,0,true);
+        Corner bottomRight = null;
+        for (Corner corner : hat.findAllCorners(wordList)) {
+            if(corner.getDirection() == Direction.BOTTOM_RIGHT){
+                bottomRight = corner;
+            }
+        }
+        assertNotNull(bottomRight);
+
+        // URN down from the U of HOUSE and TEN along from the T of HAT meet at their N. UNO and TEA cross those
+        // same letters but bring an O and an A to that cell, so they make no pair
+        final List<String> pairs = new ArrayList<>();
+        Corner.DoubleIntersectionFound rejectAll = new Corner.DoubleIntersectionFound() {
+            @Override
+            public boolean onDoubleIntersection(Corner corner, IntersectionOption fromSourceWord, IntersectionOption fromCrossingWord) {
+                pairs.add(fromSourceWord.crossing.name + " " + fromCrossingWord.crossing.name);
+                return false;
+            }
+        };
+        while (bottomRight.moveToNextIfPossible()) {
+            assertFalse(bottomRight.findPossibleIntersections(rejectAll));
+        }
+
+        assertEquals(1, pairs.size());
+        assertTrue(pairs.contains("URN TEN") || pairs.contains("TEN URN"));
+
+        // rejected pairs are still single intersections
+        List<String> singles = new ArrayList<>();
+        for (IntersectionOption single : bottomRight.getSingleIntersections()) {
+            singles.add(single.crossing.name);
+        }
+        assertTrue(singles.contains("URN"));
+        assertTrue(singles.contains("TEN"));
+    }
+}
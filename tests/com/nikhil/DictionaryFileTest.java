@@ -0,0 +1,123 @@
+package com.nikhil;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionaryFileTest {
+
+    @Test
+    void writeAndRead() throws IOException {
+
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(new Word("Mars","Fourth Planet"));
+        wordList.add(new Word("Earth","Third Planet, the \"blue\" one"));
+        wordList.add(new Word("Caf\u00e9","Coffee house"));
+        Dictionary dictionary = new Dictionary(wordList);
+
+        Path path = Files.createTempFile("words", ".dict");
+        try {
+            DictionaryFile.write(dictionary, path);
+            assertTrue(DictionaryFile.isDictionaryFile(path));
+
+            Dictionary read = DictionaryFile.read(path);
+            assertEquals(dictionary.size(), read.size());
+            for (int id = 0; id < dictionary.size(); id++) {
+                assertEquals(dictionary.nameAt(id), read.nameAt(id));
+                assertEquals(dictionary.descriptionAt(id), read.descriptionAt(id));
+            }
+            assertEquals(3, read.frequencyOf('A'));
+            assertEquals(1, read.frequencyOf('\u00c9'));
+            assertEquals(0, read.frequencyOf('Z'));
+
+            // the index read from the file finds the same intersections
+            LinkedList<Word> words = read.newWordList();
+            words.getFirst().computeIntersectionOptions(words);
+            assertEquals(3, words.getFirst().getTotalIntersections());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    void readCorruptFiles() throws IOException {
+
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(new Word("Mars","Fourth Planet"));
+        wordList.add(new Word("Earth","Third Planet"));
+        Path path = Files.createTempFile("words", ".dict");
+        try {
+            DictionaryFile.write(new Dictionary(wordList), path);
+            byte[] written = Files.readAllBytes(path);
+
+            // truncated anywhere, in the header or after it
+            for (int length : new int[]{4 * DictionaryFile.HEADER_INTS - 1, 4 * DictionaryFile.HEADER_INTS + 5,
+                    written.length - 1}) {
+                Files.write(path, Arrays.copyOf(written, length));
+                assertThrows(IOException.class, () -> DictionaryFile.read(path));
+            }
+
+            // counts and sizes of the header that are negative, too large or inconsistent with one another
+            for (int field = 2; field < DictionaryFile.HEADER_INTS; field++) {
+                for (int value : new int[]{-1, Integer.MAX_VALUE, 1 << 20}) {
+                    byte[] corrupt = written.clone();
+                    ByteBuffer.wrap(corrupt).order(ByteOrder.LITTLE_ENDIAN).putInt(4 * field, value);
+                    Files.write(path, corrupt);
+                    assertThrows(IOException.class, () -> DictionaryFile.read(path));
+                }
+            }
+
+            // offsets of a name pointing past the names
+            byte[] corrupt = written.clone();
+            ByteBuffer.wrap(corrupt).order(ByteOrder.LITTLE_ENDIAN).putInt(4 * DictionaryFile.HEADER_INTS + 4, 1000);
+            Files.write(path, corrupt);
+            assertThrows(IOException.class, () -> DictionaryFile.read(path));
+
+            // a full letter table, every key the same letter in the same slot, which no lookup could ever get out of
+            corrupt = written.clone();
+            ByteBuffer header = ByteBuffer.wrap(corrupt).order(ByteOrder.LITTLE_ENDIAN);
+            int letterTableLength = header.getInt(4 * 4);
+            int letterTableAt = 4 * (DictionaryFile.HEADER_INTS + 2 * (wordList.size() + 1));
+            for (int i = 0; i < letterTableLength; i++) {
+                header.putInt(letterTableAt + 4 * i, 'A');
+                header.putInt(letterTableAt + 4 * (letterTableLength + i), 0);
+            }
+            Files.write(path, corrupt);
+            assertThrows(IOException.class, () -> DictionaryFile.read(path));
+
+            // letters swapped between two slots, their occurrences no longer being those letters
+            corrupt = written.clone();
+            header = ByteBuffer.wrap(corrupt).order(ByteOrder.LITTLE_ENDIAN);
+            int first = -1;
+            for (int i = 0; i < letterTableLength; i++) {
+                if(header.getInt(letterTableAt + 4 * i) != -1){
+                    if(first < 0){
+                        first = i;
+                    }else{
+                        int slot = header.getInt(letterTableAt + 4 * (letterTableLength + i));
+                        header.putInt(letterTableAt + 4 * (letterTableLength + i),
+                                header.getInt(letterTableAt + 4 * (letterTableLength + first)));
+                        header.putInt(letterTableAt + 4 * (letterTableLength + first), slot);
+                        break;
+                    }
+                }
+            }
+            Files.write(path, corrupt);
+            assertThrows(IOException.class, () -> DictionaryFile.read(path));
+
+            // untouched, the file still reads
+            Files.write(path, written);
+            assertEquals(2, DictionaryFile.read(path).size());
+        } finally {
+            Files.delete(path);
+        }
+    }
+}
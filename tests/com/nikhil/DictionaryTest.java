@@ -0,0 +1,49 @@
+package com.nikhil;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DictionaryTest {
+
+    @Test
+    void newWordList() {
+
+        // data setup
+        LinkedList<Word> words = new LinkedList<>();
+        words.add(new Word("Mars","Fourth Planet"));
+        words.add(new Word("Earth","Third Planet"));
+        words.add(new Word("Ear","Organ for auditory reception"));
+        Dictionary dictionary = new Dictionary(words);
+
+        assertEquals(3, dictionary.size());
+        assertEquals("EARTH", dictionary.nameAt(1));
+        assertEquals(3, dictionary.frequencyOf('R'));
+
+        // two word lists of the same dictionary don't share placement state
+        LinkedList<Word> first = dictionary.newWordList();
+        LinkedList<Word> second = dictionary.newWordList(new Random(3));
+        first.getFirst().placeAt(0,0,true);
+        for (Word word : second) {
+            assertFalse(word.placed);
+        }
+
+        // but both are bound to the same letter index, by the same ids
+        for (Word word : second) {
+            assertTrue(word.letterIndex.isBuiltFrom(second));
+            assertSame(word, word.letterIndex.wordAt(word.id));
+            assertEquals(dictionary.nameAt(word.id), word.name);
+        }
+
+        // a grid made from such a list finds options through the index of the dictionary, and no other list of words
+        // bound to it is indexed behind its back
+        Word mars = first.getFirst();
+        new Grid(first);
+        assertEquals(4, mars.findAllIntersectionOptions(first,false).size());
+        assertThrows(IllegalArgumentException.class,
+                () -> mars.findAllIntersectionOptions(new LinkedList<>(first),false));
+    }
+}
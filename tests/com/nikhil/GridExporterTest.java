@@ -0,0 +1,150 @@
+package com.nikhil;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GridExporterTest {
+
+    /** EARTH along the top with EAR hanging down from its first letter and HATS from its last one */
+    private static Grid grid() {
+        Word earth = new Word("Earth","Third \"blue\" planet");
+        Word ear = new Word("Ear","Organ for auditory reception");
+        Word hats = new Word("Hats","Head covers");
+
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(hats);
+        wordList.add(ear);
+        wordList.add(earth);
+        Grid grid = new Grid(wordList);
+        earth.placeAt(5,5,false);
+        ear.placeAt(5,5,true);
+        hats.placeAt(5,9,true);
+        return grid;
+    }
+
+    @Test
+    void numbering() {
+        ClueNumbering numbering = new ClueNumbering(grid());
+
+        assertEquals(5, numbering.width());
+        assertEquals(4, numbering.height());
+        assertEquals(1, numbering.numberAt(0,0));
+        assertEquals(2, numbering.numberAt(0,4));
+        assertEquals(0, numbering.numberAt(1,0));
+        assertEquals('S', numbering.letterAt(3,4));
+        assertEquals(0, numbering.letterAt(3,0));
+
+        // across before down for the same number
+        assertEquals(3, numbering.clueCount());
+        assertEquals(1, numbering.acrossCount());
+        assertEquals("EARTH", numbering.answer(0));
+        assertFalse(numbering.isDown(0));
+        assertEquals("EAR", numbering.answer(1));
+        assertEquals(1, numbering.clueNumber(1));
+        assertTrue(numbering.isDown(1));
+        assertEquals("HATS", numbering.answer(2));
+        assertEquals(2, numbering.clueNumber(2));
+    }
+
+    @Test
+    void ipuz() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GridExporters.forName("ipuz").export(grid(), out);
+
+        assertEquals("{\"version\":\"http://ipuz.org/v2\",\"kind\":[\"http://ipuz.org/crossword#1\"]," +
+                        "\"dimensions\":{\"width\":5,\"height\":4},\"block\":\"#\",\"empty\":0," +
+                        "\"puzzle\":[[1,0,0,0,2],[0,\"#\",\"#\",\"#\",0],[0,\"#\",\"#\",\"#\",0]," +
+                        "[\"#\",\"#\",\"#\",\"#\",0]]," +
+                        "\"solution\":[[\"E\",\"A\",\"R\",\"T\",\"H\"],[\"A\",\"#\",\"#\",\"#\",\"A\"]," +
+                        "[\"R\",\"#\",\"#\",\"#\",\"T\"],[\"#\",\"#\",\"#\",\"#\",\"S\"]]," +
+                        "\"clues\":{\"Across\":[[1,\"Third \\\"blue\\\" planet\"]]," +
+                        "\"Down\":[[1,\"Organ for auditory reception\"],[2,\"Head covers\"]]}}",
+                new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void svg() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GridExporters.forName("SVG").export(grid(), out);
+        String svg = new String(out.toByteArray(), StandardCharsets.UTF_8);
+
+        // the background and one square per open cell, two of them numbered
+        assertTrue(svg.startsWith("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"160\" height=\"128\""));
+        assertEquals(1 + 10, svg.split("<rect").length - 1);
+        assertEquals(2, svg.split("<text").length - 1);
+        assertTrue(svg.endsWith("</svg>\n"));
+    }
+
+    @Test
+    void puz() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        GridExporters.forName("puz").export(grid(), out);
+        byte[] file = out.toByteArray();
+
+        String clues = "Third \"blue\" planet\0Organ for auditory reception\0Head covers\0";
+        assertEquals(0x34 + 2 * 20 + 3 + clues.length() + 1, file.length);
+        assertEquals("ACROSS&DOWN", new String(file, 0x02, 11, StandardCharsets.ISO_8859_1));
+        assertEquals(5, file[0x2C]);
+        assertEquals(4, file[0x2D]);
+        assertEquals(3, file[0x2E]);
+        assertEquals("EARTHA...AR...T....S", new String(file, 0x34, 20, StandardCharsets.ISO_8859_1));
+        assertEquals("-----", new String(file, 0x34 + 20, 5, StandardCharsets.ISO_8859_1));
+        assertEquals(clues, new String(file, 0x34 + 40 + 3, clues.length(), StandardCharsets.ISO_8859_1));
+
+        // the header checksum covers the 8 bytes from the width on
+        int headerChecksum = PuzExporter.checksum(file, 0x2C, 8, 0);
+        assertEquals(headerChecksum, (file[0x0E] & 0xFF) | (file[0x0F] & 0xFF) << 8);
+
+        // the checksums of the solution, the player state and the clues, their terminators left out
+        int solutionChecksum = PuzExporter.checksum(file, 0x34, 20, 0);
+        int stateChecksum = PuzExporter.checksum(file, 0x34 + 20, 20, 0);
+        int cluesChecksum = 0;
+        int fileChecksum = PuzExporter.checksum(file, 0x34, 20, headerChecksum);
+        fileChecksum = PuzExporter.checksum(file, 0x34 + 20, 20, fileChecksum);
+        for (String clue : clues.split("\0")) {
+            byte[] bytes = clue.getBytes(StandardCharsets.ISO_8859_1);
+            cluesChecksum = PuzExporter.checksum(bytes, 0, bytes.length, cluesChecksum);
+            fileChecksum = PuzExporter.checksum(bytes, 0, bytes.length, fileChecksum);
+        }
+
+        // the file checksum carries on from the header one over everything else, at the very start of the file
+        assertEquals(fileChecksum, (file[0x00] & 0xFF) | (file[0x01] & 0xFF) << 8);
+
+        // the four checksums again, masked with ICHEATED: low bytes first, then high bytes
+        int[] masked = {headerChecksum, solutionChecksum, stateChecksum, cluesChecksum};
+        byte[] mask = "ICHEATED".getBytes(StandardCharsets.ISO_8859_1);
+        for (int i = 0; i < masked.length; i++) {
+            assertEquals((byte) (mask[i] ^ masked[i]), file[0x10 + i]);
+            assertEquals((byte) (mask[i + 4] ^ masked[i] >> 8), file[0x14 + i]);
+        }
+    }
+
+    @Test
+    void utf8() throws IOException {
+        // two, three and four byte encodings, then a lone surrogate
+        String text = "Caf\u00e9 \u20ac \ud83d\ude00 \ud83d.";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Utf8Writer writer = new Utf8Writer(out);
+        writer.write(text);
+        writer.writeNumber(1024);
+        writer.flush();
+
+        assertEquals("Caf\u00e9 \u20ac \ud83d\ude00 ?.1024", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void forName() {
+        assertTrue(GridExporters.forName("PUZ") instanceof PuzExporter);
+
+        // providers are loaded once, the same exporters being handed out every time
+        assertSame(GridExporters.available(), GridExporters.available());
+        assertSame(GridExporters.forName("ipuz"), GridExporters.forName("IPUZ"));
+        assertThrows(IllegalArgumentException.class, () -> GridExporters.forName("docx"));
+    }
+}
@@ -0,0 +1,55 @@
+package com.nikhil;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GridGeneratorTest {
+
+    @Test
+    void generate() {
+
+        // data setup
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(new Word("Mars","Fourth Planet"));
+        wordList.add(new Word("Earth","Third Planet"));
+        wordList.add(new Word("August","Eighth month"));
+        wordList.add(new Word("Mugger","A person who attacks and robs another in a public place"));
+        wordList.add(new Word("Tapestry","Used in reference to an intricate or complex sequence of events"));
+        wordList.add(new Word("Harmony","The quality of forming a pleasing and consistent whole"));
+        wordList.add(new Word("Romantic","Conducive to or characterized by the expression of love"));
+        wordList.add(new Word("Transparent","Allowing light to pass through"));
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            GridGenerator generator = new GridGenerator(wordList, 6, GridScore.AREA, 7, pool);
+            Grid grid = generator.generate();
+
+            // every word is placed in the best grid, while the given words are left untouched
+            assertEquals(wordList.size(), grid.placedWordCount());
+            for (Word word : wordList) {
+                assertFalse(word.placed);
+            }
+
+            // attempts are repeatable, none of them is better than the chosen grid and one of them is as good
+            int smallestArea = Integer.MAX_VALUE;
+            int largestArea = 0;
+            for (int attempt = 0; attempt < 6; attempt++) {
+                int area = generator.attempt(attempt).boundingArea();
+                smallestArea = Math.min(smallestArea, area);
+                largestArea = Math.max(largestArea, area);
+            }
+            assertEquals(smallestArea, grid.boundingArea());
+            assertTrue(largestArea > smallestArea);
+
+            // scores of the chosen grid
+            assertTrue(grid.clusterCount() >= 1);
+            assertTrue(grid.density() > 0 && grid.density() <= 1);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.nikhil;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GridServiceTest {
+
+    /** Status and body of a response */
+    private static String request(GridService service, String method, String path, String body) throws IOException {
+        URL url = new URL("http", InetAddress.getLoopbackAddress().getHostAddress(), service.port(), path);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method);
+        if(body != null){
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        int status = connection.getResponseCode();
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+        try (InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            byte[] buffer = new byte[4096];
+            for (int read; (read = in.read(buffer)) > 0; ) {
+                response.write(buffer, 0, read);
+            }
+        }
+        return status + " " + new String(response.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void grid() throws IOException {
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(new Word("Mars","Fourth Planet"));
+        wordList.add(new Word("Earth","Third Planet"));
+        wordList.add(new Word("August","Eighth month"));
+        wordList.add(new Word("Harmony","The quality of forming a pleasing and consistent whole"));
+        GridService service = new GridService(Collections.singletonMap("planets", new Dictionary(wordList)));
+        service.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        try {
+            // a word list of the request
+            String posted = request(service, "POST", "/grid?format=ipuz", "Mars,Fourth Planet\nEarth,Third Planet\n");
+            assertTrue(posted.startsWith("200 {\"version\":\"http://ipuz.org/v2\""));
+            assertTrue(posted.contains("Fourth Planet") && posted.contains("Third Planet"));
+
+            // a sample of a dictionary of the service, the same seed giving the same grid
+            String sampled = request(service, "GET", "/grid?dictionary=planets&words=3&seed=5&format=svg", null);
+            assertTrue(sampled.startsWith("200 <svg"));
+            assertEquals(sampled, request(service, "GET", "/grid?dictionary=planets&words=3&seed=5&format=svg", null));
+
+            // a placement out of time answers with what it placed, nothing here
+            assertTrue(request(service, "GET", "/grid?dictionary=planets&words=3&timeout=0", null)
+                    .contains("\"dimensions\":{\"width\":0,\"height\":0}"));
+
+            assertTrue(request(service, "GET", "/grid?dictionary=moons", null).startsWith("404 "));
+            assertTrue(request(service, "GET", "/grid?dictionary=planets&words=9", null).startsWith("400 "));
+            assertTrue(request(service, "GET", "/grid?dictionary=planets&format=docx", null).startsWith("400 "));
+            assertTrue(request(service, "POST", "/grid", "Mars\n").startsWith("400 "));
+            assertTrue(request(service, "GET", "/grid", null).startsWith("400 "));
+        } finally {
+            service.stop(0);
+        }
+    }
+
+    @Test
+    void parallelClients() throws Exception {
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(new Word("Mars","Fourth Planet"));
+        wordList.add(new Word("Earth","Third Planet"));
+        wordList.add(new Word("August","Eighth month"));
+        wordList.add(new Word("Mugger","A person who attacks and robs another in a public place"));
+        wordList.add(new Word("Tapestry","Used in reference to an intricate or complex sequence of events"));
+        wordList.add(new Word("Harmony","The quality of forming a pleasing and consistent whole"));
+        wordList.add(new Word("Romantic","Conducive to or characterized by the expression of love"));
+        wordList.add(new Word("Transparent","Allowing light to pass through"));
+        final GridService service = new GridService(Collections.singletonMap("planets", new Dictionary(wordList)));
+        service.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        try {
+            // the grid of every seed, one request at a time
+            final int seeds = 8;
+            List<String> expected = new ArrayList<>();
+            for (int seed = 0; seed < seeds; seed++) {
+                expected.add(request(service, "GET", "/grid?dictionary=planets&words=6&seed=" + seed, null));
+                assertTrue(expected.get(seed).startsWith("200 "));
+            }
+
+            // clients asking for all of them at once, from the one shared dictionary, get the very same grids
+            List<Future<String>> responses = new ArrayList<>();
+            for (int i = 0; i < 4 * seeds; i++) {
+                final int seed = i % seeds;
+                responses.add(clients.submit(new Callable<String>() {
+                    @Override
+                    public String call() throws IOException {
+                        return request(service, "GET", "/grid?dictionary=planets&words=6&seed=" + seed, null);
+                    }
+                }));
+            }
+            for (int i = 0; i < responses.size(); i++) {
+                assertEquals(expected.get(i % seeds), responses.get(i).get());
+            }
+        } finally {
+            clients.shutdown();
+            service.stop(0);
+        }
+    }
+
+    @Test
+    void newRequestExecutor() throws Exception {
+        ExecutorService executor = GridService.newRequestExecutor();
+        try {
+            Future<String> result = executor.submit(() -> "placed");
+            assertEquals("placed", result.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.nikhil;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.LinkedList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GridSnapshotTest {
+
+    @Test
+    void writeTo() throws IOException {
+
+        // data setup, EARTH along the top with EAR hanging down from its first letter and HATS from its last one
+        Word earth = new Word("Earth","Third Planet");
+        Word ear = new Word("Ear","Organ for auditory reception");
+        Word hats = new Word("Hats","Head covers");
+
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(earth);
+        wordList.add(ear);
+        wordList.add(hats);
+        Grid grid = new Grid(wordList);
+        GridSnapshot snapshot = grid.snapshot();
+        assertTrue(snapshot.isEmpty());
+        assertEquals(0, grid.boundingArea());
+
+        // placements away from the origin and on either side of it grow the snapshot as they come
+        earth.placeAt(-3,-2,false);
+        ear.placeAt(-3,-2,true);
+        hats.placeAt(-3,2,true);
+        assertEquals('H', snapshot.letterAt(-3,2));
+        assertEquals('S', snapshot.letterAt(0,2));
+        assertEquals(0, snapshot.letterAt(0,-2));
+        assertEquals(4, snapshot.height());
+        assertEquals(5, snapshot.width());
+        assertEquals(20, grid.boundingArea());
+
+        // the rendition is as wide as the words, not as square as the grid is tall
+        String lineSeparator = System.lineSeparator();
+        StringWriter out = new StringWriter();
+        snapshot.writeTo(out);
+        assertEquals(
+                "E A R T H " + lineSeparator +
+                "A 0 0 0 A " + lineSeparator +
+                "R 0 0 0 T " + lineSeparator +
+                "0 0 0 0 S " + lineSeparator,
+                out.toString());
+
+        // normalizing moves the letters along with the words
+        grid.normalize();
+        assertEquals(0, snapshot.minRow());
+        assertEquals(0, snapshot.minCol());
+        assertEquals('E', snapshot.letterAt(0,0));
+        assertEquals('S', snapshot.letterAt(3,4));
+
+        snapshot.clear();
+        assertTrue(snapshot.isEmpty());
+        assertEquals(0, snapshot.letterAt(0,0));
+    }
+}
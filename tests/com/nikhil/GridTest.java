@@ -161,4 +161,230 @@ class GridTest {
         assertFalse(grid.isPlacementOfWordAllowed(marsh,1,0,false));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void placeDisjointInEmptyGrid() {
+        Word mars = new Word("Mars","Fourth Planet");
+        Word earth = new Word("Earth","Third Planet");
+        Word moon = new Word("Moon","Natural satellite");
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(mars);
+        wordList.add(earth);
+        wordList.add(moon);
+        for (Word word : wordList) {
+            word.computeIntersectionOptions(wordList);
+        }
+
+        // the first pair of crossing words starts at the origin, the source word going down
+        Grid grid = new Grid(wordList);
+        grid.placeDisjoint(new IntersectionOption(mars,1,earth,1));
+        assertTrue(mars.placed && mars.vertical);
+        assertEquals(0, mars.row);
+        assertEquals(0, mars.col);
+        assertTrue(earth.placed && !earth.vertical);
+        assertEquals(1, earth.row);
+
+        // so does a lone word, laid across
+        LinkedList<Word> lone = new LinkedList<>();
+        lone.add(moon);
+        new Grid(lone).placeDisjoint(moon);
+        assertTrue(moon.placed && !moon.vertical);
+        assertEquals(0, moon.row);
+        assertEquals(0, moon.col);
+    }
+
+    @Test
+    void placeDisjointWord() {
+        Word mars = new Word("Mars","Fourth Planet");
+        Word moon = new Word("Moon","Natural satellite");
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(mars);
+        wordList.add(moon);
+        Grid grid = new Grid(wordList);
+        mars.placeAt(2,5,true);
+
+        // the grid is taller than wide, so the word goes down one empty column left of the leftmost word
+        grid.placeDisjoint(moon);
+        assertTrue(moon.placed && moon.vertical);
+        assertEquals(3, moon.col);
+        assertEquals(2, moon.row);
+    }
+
+    @Test
+    void findAvailableIntersectionPreferringRareLetters() {
+        Word mars = new Word("Mars","Fourth Planet");
+        Word earth = new Word("Earth","Third Planet");
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(mars);
+        wordList.add(earth);
+        Grid grid = new Grid(wordList);
+        grid.computeAndSortLetterFrequencies();
+
+        // M, S, E, T and H are rarer but only occur in one word each, A is the rarest letter the two words share
+        IntersectionOption option = grid.findAvailableIntersectionPreferringRareLetters();
+        assertNotNull(option);
+        assertEquals('A', option.letter());
+    }
+
+    @Test
+    void placeWordsInGrid() {
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(new Word("Mars","Fourth Planet"));
+        wordList.add(new Word("Earth","Third Planet"));
+        wordList.add(new Word("August","Eighth month"));
+        wordList.add(new Word("Mugger","A person who attacks and robs another in a public place"));
+        wordList.add(new Word("Tapestry","Used in reference to an intricate or complex sequence of events"));
+        wordList.add(new Word("Harmony","The quality of forming a pleasing and consistent whole"));
+        wordList.add(new Word("Romantic","Conducive to or characterized by the expression of love"));
+        wordList.add(new Word("Transparent","Allowing light to pass through"));
+        Grid grid = new Grid(wordList);
+
+        grid.placeWordsInGrid();
+
+        // every word is placed where the rules allow, given all the others
+        for (Word word : wordList) {
+            assertTrue(word.placed, word.name);
+            Occupancy others = new Occupancy();
+            for (Word other : wordList) {
+                if (other != word) {
+                    others.add(other);
+                }
+            }
+            assertTrue(others.isPlacementAllowed(word.name, word.row, word.col, word.vertical), word.name);
+        }
+    }
+
+    @Test
+    void placeWordsInGridScansCorners() {
+        Word breath = new Word("Breath","The air that goes into and out of your lungs");
+        Word back = new Word("Back","The part of your body that is opposite to the front");
+        Word animal = new Word("Animal","Something that lives and moves");
+        Word account = new Word("Account","An arrangement with a bank to keep your money there");
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(breath);
+        wordList.add(back);
+        wordList.add(animal);
+        wordList.add(account);
+        Grid grid = new Grid(wordList);
+
+        grid.placeWordsInGrid();
+
+        // BACK hangs down from BREATH, and the corner they leave finds ANIMAL crossing the A of BREATH, instead of
+        // ANIMAL and ACCOUNT starting a group of their own
+        assertTrue(animal.vertical);
+        assertEquals(breath.row, animal.row);
+        assertEquals('A', breath.name.charAt(animal.col - breath.col));
+    }
+
+    @Test
+    void placeWordsByBacktracking() {
+
+        // every word shares a letter with another, so all of them can be joined
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(new Word("Mars","Fourth Planet"));
+        wordList.add(new Word("Earth","Third Planet"));
+        wordList.add(new Word("Ear","Organ for auditory reception"));
+        wordList.add(new Word("Eyes","Organ for visual perception"));
+        wordList.add(new Word("August","Eighth month"));
+        wordList.add(new Word("Mugger","A person who attacks and robs another in a public place"));
+        Grid grid = new Grid(wordList);
+
+        BacktrackingSearch search = grid.placeWordsByBacktracking(1000);
+
+        assertFalse(search.timedOut());
+        assertTrue(search.nodes() > 0);
+        assertEquals(wordList.size(), grid.placedWordCount());
+        assertEquals(1, grid.clusterCount());
+
+        // the placements left behind are the ones the occupancy was rolled forward to
+        for (Word word : wordList) {
+            LinkedList<Word> others = new LinkedList<>(wordList);
+            others.remove(word);
+            Occupancy occupancy = new Occupancy();
+            for (Word other : others) {
+                occupancy.add(other);
+            }
+            assertTrue(occupancy.isPlacementAllowed(word.name, word.row, word.col, word.vertical));
+        }
+    }
+
+    @Test
+    void placeWordsUnderDeadline() {
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(new Word("Mars","Fourth Planet"));
+        wordList.add(new Word("Earth","Third Planet"));
+        wordList.add(new Word("Ear","Organ for auditory reception"));
+        wordList.add(new Word("August","Eighth month"));
+        wordList.add(new Word("Mugger","A person who attacks and robs another in a public place"));
+        Grid grid = new Grid(wordList);
+
+        // a deadline that has passed already stops the placement before the first word
+        Deadline cancelled = Deadline.none();
+        cancelled.cancel();
+        assertTrue(cancelled.hasPassed());
+        assertEquals(0, cancelled.remainingMillis());
+        PlacementResult stopped = grid.placeWords(cancelled);
+        assertTrue(stopped.stoppedByDeadline());
+        assertFalse(stopped.isComplete());
+        assertEquals(0, stopped.placedWords());
+        assertEquals(wordList.size(), stopped.unplacedWords());
+        assertTrue(Deadline.after(0).hasPassed());
+
+        // placing again carries on to the end
+        PlacementResult finished = grid.placeWords(Deadline.after(60_000));
+        assertTrue(finished.isComplete());
+        assertFalse(finished.stoppedByDeadline());
+        assertEquals(wordList.size(), finished.placedWords());
+        assertEquals(wordList.size(), grid.placedWordCount());
+    }
+
+    @Test
+    void placeWordsResumingAfterDeadline() {
+
+        // an uninterrupted placement, to compare against
+        Grid uninterrupted = new Grid(resumableWordList());
+        assertTrue(uninterrupted.placeWords(Deadline.none()).isComplete());
+        String expected = layoutOf(uninterrupted);
+
+        // stopped at every step in turn, in the middle of corner scans too, the placement carries on where it stopped
+        // and ends up with the very same grid
+        for (int checks = 1; ; checks++) {
+            Grid grid = new Grid(resumableWordList());
+            PlacementResult stopped = grid.placeWords(Deadline.afterChecks(checks));
+            if(stopped.isComplete()){
+                assertFalse(stopped.stoppedByDeadline());
+                assertTrue(checks > 20);
+                break;
+            }
+            assertTrue(stopped.stoppedByDeadline());
+
+            PlacementResult resumed = grid.placeWords(Deadline.none());
+            assertTrue(resumed.isComplete());
+            assertFalse(resumed.stoppedByDeadline());
+            assertEquals(expected, layoutOf(grid), "stopped after " + checks + " checks");
+        }
+    }
+
+    private static LinkedList<Word> resumableWordList() {
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(new Word("Mars","Fourth Planet"));
+        wordList.add(new Word("Earth","Third Planet"));
+        wordList.add(new Word("August","Eighth month"));
+        wordList.add(new Word("Mugger","A person who attacks and robs another in a public place"));
+        wordList.add(new Word("Tapestry","Used in reference to an intricate or complex sequence of events"));
+        wordList.add(new Word("Harmony","The quality of forming a pleasing and consistent whole"));
+        wordList.add(new Word("Romantic","Conducive to or characterized by the expression of love"));
+        wordList.add(new Word("Transparent","Allowing light to pass through"));
+        return wordList;
+    }
+
+    /** @return where every word of the grid is, in word list order */
+    private static String layoutOf(Grid grid) {
+        StringBuilder layout = new StringBuilder();
+        for (Word word : grid.words()) {
+            layout.append(word.name).append('@').append(word.row).append(',').append(word.col)
+                    .append(word.vertical ? 'v' : 'h').append(' ');
+        }
+        return layout.toString();
+    }
+}
@@ -168,6 +168,59 @@ class IntersectionOptionTest {
 
     }
 
+    @Test
+    void pack() {
+
+        Word mars = new Word("Mars","Fourth Planet");
+        Word earth = new Word("Earth","Third Planet");
+        Word ear = new Word("Ear","Organ for auditory reception");
+
+        ArrayList<Word> wordList = new ArrayList<>();
+        wordList.add(mars);
+        wordList.add(earth);
+        wordList.add(ear);
+        LetterIndex letterIndex = LetterIndex.attachTo(wordList);
+
+        // every field survives the round trip
+        long packed = new IntersectionOption(ear,2,mars,2).pack();
+        assertEquals(2, IntersectionOption.sourceIdOf(packed));
+        assertEquals(2, IntersectionOption.sourceIndexOf(packed));
+        assertEquals(0, IntersectionOption.crossingIdOf(packed));
+        assertEquals(2, IntersectionOption.crossingIndexOf(packed));
+
+        IntersectionOption unpacked = IntersectionOption.unpack(packed, letterIndex);
+        assertSame(ear, unpacked.source);
+        assertSame(mars, unpacked.crossing);
+
+        // packed options of a word are the same as the ones found by scanning the list
+        earth.computeIntersectionOptions(wordList);
+        assertEquals(earth.findAllIntersectionOptions(wordList,false).size(), earth.getTotalIntersections());
+        assertNotNull(earth.intersectsWtih(ear));
+
+        // options made afresh from their packed form are equal to the option they were packed from
+        IntersectionOption option = new IntersectionOption(ear, 1, mars, 1);
+        IntersectionOption same = IntersectionOption.unpack(option.pack(), letterIndex);
+        assertNotSame(option, same);
+        assertEquals(option, same);
+        assertEquals(option.hashCode(), same.hashCode());
+        assertNotEquals(option, new IntersectionOption(ear, 1, earth, 1));
+        assertNotEquals(option, new IntersectionOption(mars, 1, ear, 1));
+
+        // and so are their packed forms in a set
+        LongSet packedOptions = new LongSet(1);
+        assertTrue(packedOptions.add(option.pack()));
+        assertFalse(packedOptions.add(same.pack()));
+        for (int i = 0; i < 100; i++) {
+            assertTrue(packedOptions.add(IntersectionOption.pack(i, 0, i + 1, 0)));
+        }
+        assertTrue(packedOptions.add(Long.MIN_VALUE));
+        assertEquals(102, packedOptions.size());
+        assertTrue(packedOptions.contains(IntersectionOption.pack(42, 0, 43, 0)));
+        packedOptions.clear();
+        assertTrue(packedOptions.isEmpty());
+        assertFalse(packedOptions.contains(option.pack()));
+    }
+
     private IntersectionOption findIntersectionOptionInList(List<IntersectionOption> intersectionOptionList,int sourceIndex, Word crossingWord,int crossingIndex){
         for (IntersectionOption intersectionOption : intersectionOptionList){
             if(intersectionOption.crossing == crossingWord && intersectionOption.crossingIndex == crossingIndex
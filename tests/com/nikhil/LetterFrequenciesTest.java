@@ -0,0 +1,94 @@
+package com.nikhil;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LetterFrequenciesTest {
+
+    @Test
+    void extendedAlphabet() {
+
+        // data setup, German words sharing an A umlaut and Greek words (GALA, ALFA) sharing alphas
+        Word apfel = new Word("\u00c4pfel","Apples");
+        Word gala = new Word("\u03b3\u03ac\u03bb\u03b1","Milk");
+        Word aera = new Word("\u00c4ra","Era");
+        Word alpha = new Word("\u03b1\u03bb\u03c6\u03b1","First letter");
+
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(apfel);
+        wordList.add(gala);
+        wordList.add(aera);
+        wordList.add(alpha);
+        Grid grid = new Grid(wordList);
+
+        LetterFrequencies letterFrequencies = new LetterFrequencies(apfel.letterIndex, wordList);
+
+        // the most frequent letter is the Greek alpha, the accented alpha of GALA counts as a letter of its own
+        int last = letterFrequencies.size() - 1;
+        assertEquals('\u0391', letterFrequencies.letterAt(last));
+        assertEquals(3, letterFrequencies.frequencyAt(last));
+        for (int rank = 1; rank < letterFrequencies.size(); rank++) {
+            assertTrue(letterFrequencies.frequencyAt(rank - 1) <= letterFrequencies.frequencyAt(rank));
+        }
+
+        // nothing is placed, so the rarest shared letter gives a disjoint option between two different words
+        int umlaut = -1;
+        for (int rank = 0; rank < letterFrequencies.size(); rank++) {
+            if(letterFrequencies.letterAt(rank) == '\u00c4'){
+                umlaut = rank;
+            }
+        }
+        IntersectionOption intersectionOption = letterFrequencies.findAvailableIntersectionOption(umlaut, grid);
+        assertSame(aera, intersectionOption.source);
+        assertSame(apfel, intersectionOption.crossing);
+        assertEquals(0, intersectionOption.sourceIndex);
+    }
+
+    @Test
+    void onPlaced() {
+
+        Word mars = new Word("Mars","Fourth Planet");
+        Word earth = new Word("Earth","Third Planet");
+        Word ear = new Word("Ear","Organ for auditory reception");
+
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(mars);
+        wordList.add(earth);
+        wordList.add(ear);
+        Grid grid = new Grid(wordList);
+
+        LetterFrequencies letterFrequencies = new LetterFrequencies(mars.letterIndex, wordList);
+        for (Word word : wordList) {
+            word.letterFrequencies = letterFrequencies;
+        }
+        int rankOfE = -1;
+        for (int rank = 0; rank < letterFrequencies.size(); rank++) {
+            if(letterFrequencies.letterAt(rank) == 'E'){
+                rankOfE = rank;
+            }
+        }
+
+        // once EARTH is placed, EAR is the only unplaced word with an E and crosses it there
+        earth.placeAt(0,0,false);
+        IntersectionOption intersectionOption = letterFrequencies.findAvailableIntersectionOption(rankOfE, grid);
+        assertSame(earth, intersectionOption.source);
+        assertSame(ear, intersectionOption.crossing);
+
+        // with every E placed there is nothing left to find
+        ear.occupancy.startUndoLog();
+        int mark = ear.occupancy.mark();
+        ear.placeAt(0,0,true);
+        assertNull(letterFrequencies.findAvailableIntersectionOption(rankOfE, grid));
+
+        // taking EAR back, cells included, makes its E available again
+        ear.unplace();
+        ear.occupancy.undoTo(mark);
+        ear.occupancy.stopUndoLog();
+        intersectionOption = letterFrequencies.findAvailableIntersectionOption(rankOfE, grid);
+        assertSame(earth, intersectionOption.source);
+        assertSame(ear, intersectionOption.crossing);
+    }
+}
@@ -0,0 +1,66 @@
+package com.nikhil;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LetterIndexTest {
+
+    @Test
+    void occurrences() {
+
+        // data setup
+        Word mars = new Word("Mars","Fourth Planet");
+        Word earth = new Word("Earth","Third Planet");
+        Word august = new Word("August","Eighth month");
+
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(mars);
+        wordList.add(earth);
+        wordList.add(august);
+
+        LetterIndex letterIndex = new LetterIndex(wordList);
+
+        assertTrue(letterIndex.isBuiltFrom(wordList));
+        assertEquals(3, letterIndex.frequencyOf('A'));
+        assertEquals(2, letterIndex.frequencyOf('R'));
+        assertEquals(0, letterIndex.frequencyOf('Z'));
+
+        // occurrences of a letter come in word list order
+        int first = letterIndex.firstOccurrence('T');
+        assertSame(earth, letterIndex.wordAt(LetterIndex.wordIdOf(letterIndex.occurrenceAt(first))));
+        assertEquals(3, LetterIndex.positionOf(letterIndex.occurrenceAt(first)));
+        assertSame(august, letterIndex.wordAt(LetterIndex.wordIdOf(letterIndex.occurrenceAt(first + 1))));
+        assertEquals(5, LetterIndex.positionOf(letterIndex.occurrenceAt(first + 1)));
+    }
+
+    @Test
+    void findAllIntersectionOptions() {
+
+        Word mars = new Word("Mars","Fourth Planet");
+        Word earth = new Word("Earth","Third Planet");
+        Word ear = new Word("Ear","Organ for auditory reception");
+
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(mars);
+        wordList.add(earth);
+        wordList.add(ear);
+
+        // the same options are found with the index of a grid and with an index made on the fly
+        List<IntersectionOption> withoutGrid = mars.findAllIntersectionOptions(wordList,false);
+        new Grid(wordList);
+        List<IntersectionOption> withGrid = mars.findAllIntersectionOptions(wordList,false);
+
+        // M-A-R-S against E-A-R-T-H and E-A-R : A and R twice each
+        assertEquals(4, withoutGrid.size());
+        assertEquals(withoutGrid.size(), withGrid.size());
+        for (int i = 0; i < withGrid.size(); i++) {
+            assertSame(withoutGrid.get(i).crossing, withGrid.get(i).crossing);
+            assertEquals(withoutGrid.get(i).sourceIndex, withGrid.get(i).sourceIndex);
+            assertEquals(withoutGrid.get(i).crossingIndex, withGrid.get(i).crossingIndex);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.nikhil;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LetterRarityTest {
+
+    @Test
+    void sort() {
+
+        // data setup
+        Word mars = new Word("Mars","Fourth Planet");
+        Word earth = new Word("Earth","Third Planet");
+        Word ear = new Word("Ear","Organ for auditory reception");
+        Word arm = new Word("Arm","Upper limb");
+
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(mars);
+        wordList.add(earth);
+        wordList.add(ear);
+        wordList.add(arm);
+
+        LetterRarity letterRarity = new LetterRarity(LetterIndex.attachTo(wordList), false);
+
+        // S, T and H occur once, M and E twice, A and R four times
+        assertEquals(0, letterRarity.rankOf('S'));
+        assertEquals(0, letterRarity.rankOf('H'));
+        assertEquals(1, letterRarity.rankOf('M'));
+        assertEquals(1, letterRarity.rankOf('E'));
+        assertEquals(2, letterRarity.rankOf('A'));
+        assertEquals(letterRarity.rankOf('A'), letterRarity.rankOf('R'));
+
+        List<IntersectionOption> options = new ArrayList<>();
+        options.add(new IntersectionOption(mars, 1, earth, 1));  // A
+        options.add(new IntersectionOption(mars, 2, ear, 2));    // R
+        options.add(new IntersectionOption(earth, 0, ear, 0));   // E
+        options.add(new IntersectionOption(mars, 0, arm, 2));    // M
+        options.add(new IntersectionOption(mars, 1, arm, 0));    // A
+
+        letterRarity.sort(options);
+
+        // rarest letter first, equally rare letters in their original order
+        assertEquals('E', options.get(0).letter());
+        assertEquals('M', options.get(1).letter());
+        assertSame(earth, options.get(2).crossing);
+        assertSame(ear, options.get(3).crossing);
+        assertSame(arm, options.get(4).crossing);
+
+        // weighted, the longest crossing word comes first among the A and R crossings
+        new LetterRarity(wordList.getFirst().letterIndex, true).sort(options);
+        assertSame(earth, options.get(2).crossing);
+    }
+
+    @Test
+    void sortAfterAppending() {
+
+        // data setup
+        Word mars = new Word("Mars","Fourth Planet");
+        Word earth = new Word("Earth","Third Planet");
+        Word ear = new Word("Ear","Organ for auditory reception");
+        Word arm = new Word("Arm","Upper limb");
+
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(mars);
+        wordList.add(earth);
+        wordList.add(ear);
+        wordList.add(arm);
+
+        LetterRarity letterRarity = new LetterRarity(LetterIndex.attachTo(wordList), false);
+
+        List<IntersectionOption> options = new ArrayList<>();
+        options.add(new IntersectionOption(mars, 1, earth, 1));  // A
+        options.add(new IntersectionOption(earth, 0, ear, 0));   // E
+        letterRarity.sort(options);
+
+        // options appended to a sorted list are merged into it
+        options.add(new IntersectionOption(mars, 2, ear, 2));    // R
+        options.add(new IntersectionOption(mars, 0, arm, 2));    // M
+        letterRarity.sort(options);
+
+        assertEquals('E', options.get(0).letter());
+        assertEquals('M', options.get(1).letter());
+        assertSame(earth, options.get(2).crossing);
+        assertSame(ear, options.get(3).crossing);
+    }
+}
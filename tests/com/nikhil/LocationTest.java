@@ -0,0 +1,25 @@
+package com.nikhil;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocationTest {
+
+    @Test
+    void containsInSpan() {
+        Location start = new Location(2,3);
+
+        // a span of 4 going down covers rows 2 to 5
+        assertTrue(start.containsInSpan(new Location(2,0),4,true));
+        assertTrue(start.containsInSpan(new Location(5,0),4,true));
+        assertFalse(start.containsInSpan(new Location(6,0),4,true));
+        assertFalse(start.containsInSpan(new Location(1,0),4,true));
+
+        // a span of 4 going right covers columns 3 to 6
+        assertTrue(start.containsInSpan(new Location(0,3),4,false));
+        assertTrue(start.containsInSpan(new Location(0,6),4,false));
+        assertFalse(start.containsInSpan(new Location(0,7),4,false));
+        assertFalse(start.containsInSpan(new Location(0,2),4,false));
+    }
+}
@@ -0,0 +1,80 @@
+package com.nikhil;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordListScannerTest {
+
+    private static List<String> scan(String contents, int windowSize) throws IOException {
+        Path file = Files.createTempFile("words", ".csv");
+        try {
+            Files.write(file, contents.getBytes(StandardCharsets.UTF_8));
+            final List<String> words = new ArrayList<>();
+            new WordListScanner(file, windowSize).scan(new WordListScanner.WordFound() {
+                @Override
+                public void onWord(String name, String description) {
+                    words.add(name + "|" + description);
+                }
+            });
+            return words;
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void quotedFields() throws IOException {
+        String csv = "\uFEFFamount , a collection or mass, especially of something\r\n" +
+                "\r\n" +
+                "\"air\",\"the \"\"mixture\"\" of gases,\nthat we breathe\"\n" +
+                "  caf\u00e9 ,  coffee house  ";
+
+        List<String> words = scan(csv, WordListScanner.WINDOW_SIZE);
+
+        assertEquals(3, words.size());
+        assertEquals("amount|a collection or mass, especially of something", words.get(0));
+        assertEquals("air|the \"mixture\" of gases,\nthat we breathe", words.get(1));
+        assertEquals("caf\u00e9|coffee house", words.get(2));
+
+        // records cut off by the end of a mapped window are read again from the next window
+        assertEquals(words, scan(csv, 64));
+    }
+
+    @Test
+    void tabSeparated() throws IOException {
+        List<String> words = scan("mars\tFourth planet, red\nearth\tThird planet\n", WordListScanner.WINDOW_SIZE);
+
+        assertEquals(2, words.size());
+        assertEquals("mars|Fourth planet, red", words.get(0));
+        assertEquals("earth|Third planet", words.get(1));
+    }
+
+    @Test
+    void quotesInsideUnquotedFields() throws IOException {
+        String csv = "inch , a unit, 1\" long\nfoot , twelve inches\n\"yard\",\"three \"\"feet\"\"\"\n" +
+                "mile\t, the \"statute\" one\n";
+
+        List<String> words = scan(csv, WordListScanner.WINDOW_SIZE);
+
+        assertEquals(4, words.size());
+        assertEquals("inch|a unit, 1\" long", words.get(0));
+        assertEquals("foot|twelve inches", words.get(1));
+        assertEquals("yard|three \"feet\"", words.get(2));
+        assertEquals("mile|the \"statute\" one", words.get(3));
+        assertEquals(words, scan(csv, 32));
+    }
+
+    @Test
+    void missingDescription() {
+        IOException ex = assertThrows(IOException.class, () -> scan("mars,planet\nearth\n", WordListScanner.WINDOW_SIZE));
+        assertTrue(ex.getMessage().startsWith("Line 2"));
+    }
+}
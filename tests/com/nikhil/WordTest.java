@@ -1,6 +1,7 @@
 package com.nikhil;
 
 import java.util.ArrayList;
+import java.util.LinkedList;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -34,4 +35,60 @@ class WordTest {
 
     }
 
-}
\ No newline at end of file
+    @org.junit.jupiter.api.Test
+    void placeAtRetiresIntersectionOptions() {
+        Word mars = new Word("Mars","Fourth Planet");
+        Word earth = new Word("Earth","Third Planet");
+        Word ear = new Word("Ear","Organ for auditory reception");
+
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(mars);
+        wordList.add(earth);
+        wordList.add(ear);
+        for(Word word : wordList){
+            word.computeIntersectionOptions(wordList);
+        }
+
+        // E-A-R-T-H with M-A-R-S: A, R. With E-A-R: E, A, R
+        assertEquals(5, earth.getTotalIntersections());
+        assertNotNull(earth.intersectsWtih(ear));
+
+        ear.placeAt(0,0,false);
+
+        // options with the placed word are gone, the placed word keeps its own options
+        assertEquals(2, earth.getTotalIntersections());
+        assertNull(earth.intersectsWtih(ear));
+        assertEquals(0, earth.getAvailableIntersectionOptionsAt(0).countAvailable());
+        assertFalse(earth.hasAvailableIntersectionOptionsAt(0));
+        assertTrue(earth.hasAvailableIntersectionOptionsAt(1));
+        assertEquals(0, ear.getTotalIntersections());
+        assertEquals(2, ear.getAvailableIntersectionOptionsAt(1).countAvailable());
+    }
+
+    @org.junit.jupiter.api.Test
+    void findAllCorners() {
+        Word earth = new Word("Earth","Third Planet");
+        Word tea = new Word("Tea","Hot drink");
+        Word mars = new Word("Mars","Fourth Planet");
+
+        LinkedList<Word> wordList = new LinkedList<>();
+        wordList.add(earth);
+        wordList.add(tea);
+        wordList.add(mars);
+
+        // TEA hangs down from the T of EARTH, MARS shares letters with EARTH but lies elsewhere
+        earth.placeAt(0,0,false);
+        tea.placeAt(0,3,true);
+        mars.placeAt(5,0,false);
+
+        // without occupancy the list is checked for words actually crossing
+        int withoutGrid = earth.findAllCorners(wordList).size();
+        new Grid(wordList);
+        int withGrid = earth.findAllCorners(wordList).size();
+
+        // T is in the middle of EARTH and at the top of TEA, making two corners below EARTH
+        assertEquals(2, withGrid);
+        assertEquals(withGrid, withoutGrid);
+        assertTrue(mars.findAllCorners(wordList).isEmpty());
+    }
+}